@@ -0,0 +1,55 @@
+package com.cherry.server.global.common;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cursor handling done on every feed page after the first: decoding the client's cursor and encoding the
+ * next one. Both should stay allocation-light (one byte array and one record each).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageCursorBenchmark {
+
+    private static final int SCOPE = 0x5EED;
+
+    private PageCursor latest;
+    private String latestToken;
+    private String priceToken;
+
+    @Setup
+    public void setUp() {
+        latest = PageCursor.ofCreatedAt(LocalDateTime.of(2026, 1, 5, 12, 34, 56, 789_000_000), 4_812_337L);
+        latestToken = latest.encode(PageCursor.Kind.FEED_LATEST, SCOPE);
+        priceToken = PageCursor.ofPrice(15_000, 4_812_337L).encode(PageCursor.Kind.FEED_LOW_PRICE, SCOPE);
+    }
+
+    @Benchmark
+    public String encodeCreatedAt() {
+        return latest.encode(PageCursor.Kind.FEED_LATEST, SCOPE);
+    }
+
+    @Benchmark
+    public LocalDateTime decodeCreatedAt() {
+        return PageCursor.decode(latestToken, PageCursor.Kind.FEED_LATEST, SCOPE).createdAt();
+    }
+
+    @Benchmark
+    public int decodePrice() {
+        return PageCursor.decode(priceToken, PageCursor.Kind.FEED_LOW_PRICE, SCOPE).price();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cherry.server.product.cache;
+
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.CategoryResponse;
+import com.cherry.server.product.dto.ProductDetailResponse;
+import com.cherry.server.product.dto.ProductListResponse;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of serving a cached feed page: the old object round trip (parse the cached JSON,
+ * rebuild items for isLiked, serialize again) against writing the pre-rendered bytes.
+ * Run with {@code -prof gc} to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductFeedRenderingBenchmark {
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private String cachedJson;
+    private RenderedProductPage page;
+    private Set<Long> likedProductIds;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<ProductSummaryResponse> items = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            items.add(ProductSummaryResponse.builder()
+                    .id(id)
+                    .title("미개봉 포토카드 " + id)
+                    .price(15000)
+                    .status(ProductStatus.SELLING)
+                    .tradeType(TradeType.DELIVERY)
+                    .thumbnailUrl("https://cdn.example.com/products/thumb/" + id + ".jpg")
+                    .category(new CategoryResponse(1L, "PHOTO", "포토카드"))
+                    .seller(new ProductDetailResponse.SellerResponse(7L, "seller"))
+                    .createdAt(LocalDateTime.of(2026, 1, 5, 12, 34, 56))
+                    .tags(List.of("뉴진스", "하니"))
+                    .isLiked(false)
+                    .likeCount(id * 3)
+                    .build());
+        }
+        byte[] json = objectMapper.writeValueAsBytes(new ProductListResponse(items, "2026-01-05T12:34:56_1"));
+        cachedJson = new String(json, StandardCharsets.UTF_8);
+        page = RenderedProductPage.of(json, objectMapper.getFactory());
+        likedProductIds = Set.of(2L, 5L, 11L);
+    }
+
+    @Benchmark
+    public byte[] objectRoundTripAnonymous() throws IOException {
+        ProductListResponse response = objectMapper.readValue(cachedJson, ProductListResponse.class);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] objectRoundTripLoggedIn() throws IOException {
+        ProductListResponse cached = objectMapper.readValue(cachedJson, ProductListResponse.class);
+        List<ProductSummaryResponse> items = cached.items().stream()
+                .map(item -> ProductSummaryResponse.builder()
+                        .id(item.id())
+                        .title(item.title())
+                        .price(item.price())
+                        .status(item.status())
+                        .tradeType(item.tradeType())
+                        .thumbnailUrl(item.thumbnailUrl())
+                        .category(item.category())
+                        .seller(item.seller())
+                        .createdAt(item.createdAt())
+                        .tags(item.tags())
+                        .isLiked(likedProductIds.contains(item.id()))
+                        .likeCount(item.likeCount())
+                        .build())
+                .toList();
+        return objectMapper.writeValueAsBytes(new ProductListResponse(items, cached.nextCursor()));
+    }
+
+    @Benchmark
+    public byte[] preRenderedAnonymous() {
+        return page.json();
+    }
+
+    @Benchmark
+    public byte[] preRenderedLoggedIn() {
+        return page.withLikedFlags(likedProductIds);
+    }
+
+    @Benchmark
+    public RenderedProductPage indexRedisHit() throws IOException {
+        return RenderedProductPage.of(cachedJson.getBytes(StandardCharsets.UTF_8), objectMapper.getFactory());
+    }
+}
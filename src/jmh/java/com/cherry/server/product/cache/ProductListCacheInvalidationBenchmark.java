@@ -0,0 +1,99 @@
+package com.cherry.server.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Compares the legacy KEYS + DEL invalidation with the generation bump as the number of cached
+ * feed pages grows. Needs a local Redis on {@code localhost:6379} (same as the local profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListCacheInvalidationBenchmark {
+
+    private static final String LEGACY_PATTERN = "bench:products:list:*";
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int cachedPages;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ProductCacheInvalidator invalidator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ProductListCacheProperties properties = new ProductListCacheProperties(
+                1000, Duration.ofSeconds(5), Duration.ofSeconds(300), 10000, Duration.ofSeconds(600), true
+        );
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        invalidator = new ProductCacheInvalidator(
+                redisTemplate,
+                new ProductListCache(redisTemplate, objectMapper, properties, meterRegistry),
+                new ProductSummaryCache(redisTemplate, objectMapper, properties, meterRegistry)
+        );
+    }
+
+    // Keyspace size is what KEYS pays for, so both paths run against the same populated keyspace.
+    @Setup(Level.Invocation)
+    public void populateCachedPages() {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < cachedPages; i++) {
+                byte[] key = ("bench:products:list:null:status=null:LATEST:" + i).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().set(key, "{}".getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Set<String> keys = redisTemplate.keys(LEGACY_PATTERN);
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public Long keysScanInvalidation() {
+        Set<String> keys = redisTemplate.keys(LEGACY_PATTERN);
+        if (keys == null || keys.isEmpty()) {
+            return 0L;
+        }
+        return redisTemplate.delete(keys);
+    }
+
+    @Benchmark
+    public void generationBumpInvalidation() {
+        invalidator.invalidateProductListCache();
+    }
+}
@@ -0,0 +1,92 @@
+package com.cherry.server.product.dto;
+
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building one feed page from projection rows ({@link ProductSummaryResponse#from}) and the JSON round
+ * trip of {@link ProductListResponse}, which runs on every summary cache miss and every Redis read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListResponseBenchmark {
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<ProductSummaryRow> rows;
+    private List<String> tags;
+    private ProductListResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        tags = List.of("뉴진스", "하니");
+        rows = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            rows.add(new ProductSummaryRow(
+                    id,
+                    "미개봉 포토카드 " + id,
+                    15000,
+                    ProductStatus.SELLING,
+                    TradeType.DELIVERY,
+                    LocalDateTime.of(2026, 1, 5, 12, 34, 56),
+                    1L,
+                    "PHOTO",
+                    "포토카드",
+                    7L,
+                    "seller",
+                    "https://cdn.example.com/products/thumb/" + id + ".jpg",
+                    id * 3
+            ));
+        }
+        response = new ProductListResponse(mapRows(), "AQAAXu0Bgt7v2p2_BM2qJQ");
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public List<ProductSummaryResponse> fromRows() {
+        return mapRows();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ProductListResponse deserialize() throws IOException {
+        return objectMapper.readValue(json, ProductListResponse.class);
+    }
+
+    private List<ProductSummaryResponse> mapRows() {
+        List<ProductSummaryResponse> items = new ArrayList<>(rows.size());
+        for (ProductSummaryRow row : rows) {
+            items.add(ProductSummaryResponse.from(row, false, tags));
+        }
+        return items;
+    }
+}
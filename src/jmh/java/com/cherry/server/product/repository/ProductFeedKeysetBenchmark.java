@@ -0,0 +1,103 @@
+package com.cherry.server.product.repository;
+
+import com.cherry.server.CherryServerApplication;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryRow;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Latency of one feed page right after page 1 and deep into the feed. With the row-value keyset cursor the
+ * two should sample the same; a gap means the cursor is no longer a range seek on the sort index.
+ * Needs the local profile database with seeded products (seed.count well above {@code page * PAGE_SIZE}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductFeedKeysetBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "5000"})
+    public int page;
+
+    @Param({"LATEST", "LOW_PRICE", "HIGH_PRICE"})
+    public ProductSortBy sortBy;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductSearchCondition condition;
+    private LocalDateTime cursorCreatedAt;
+    private Integer cursorPrice;
+    private Long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CherryServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local")
+                .properties(
+                        "seed.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        condition = new ProductSearchCondition(null, null, null, null, null, sortBy);
+
+        // The cursor a client holds after reading page - 1 pages; found once with OFFSET, outside the measurement.
+        if (page > 1) {
+            String orderBy = switch (sortBy) {
+                case LATEST -> "created_at DESC, id DESC";
+                case LOW_PRICE -> "price ASC, id ASC";
+                case HIGH_PRICE -> "price DESC, id DESC";
+            };
+            context.getBean(JdbcTemplate.class).query(
+                    "SELECT id, price, created_at FROM products WHERE status <> 'PENDING' ORDER BY " + orderBy +
+                            " LIMIT 1 OFFSET ?",
+                    rs -> {
+                        cursorId = rs.getLong("id");
+                        cursorPrice = rs.getInt("price");
+                        cursorCreatedAt = rs.getObject("created_at", LocalDateTime.class);
+                    },
+                    (page - 1) * PAGE_SIZE - 1
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<ProductSummaryRow> keysetPage() {
+        return productRepository.findSummarySliceByFilters(
+                condition, sortBy, cursorCreatedAt, cursorPrice, cursorId, PageRequest.of(0, PAGE_SIZE)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.cherry.server.product.repository;
+
+import com.cherry.server.CherryServerApplication;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * First feed page through the entity query (DISTINCT + fetch joins, full rows including description)
+ * against the summary projection, both mapped to the response items. Reports pages/s plus rows/s;
+ * run with {@code -prof gc} and read {@code gc.alloc.rate.norm} for heap per page.
+ * Needs the local profile database with seeded products ({@code seed.enabled=true}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductFeedQueryBenchmark {
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private EntityFeedQuery entityFeedQuery;
+    private TransactionTemplate transactionTemplate;
+    private ProductSearchCondition condition;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CherryServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local")
+                .properties(
+                        "seed.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        entityFeedQuery = new EntityFeedQuery(
+                SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class))
+        );
+        // ProductService reads in a read-only transaction, so the entity path is measured the same way.
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        condition = new ProductSearchCondition(null, null, null, null, null, ProductSortBy.LATEST);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductSummaryResponse> entityPage(Rows rows) {
+        List<ProductSummaryResponse> items = transactionTemplate.execute(status -> entityFeedQuery
+                .findSlice(condition, ProductSortBy.LATEST, null, null, null, PageRequest.of(0, pageSize))
+                .getContent().stream()
+                .map(product -> ProductSummaryResponse.from(product, false, product.getLikeCount(), List.of()))
+                .toList());
+        rows.rows += items.size();
+        return items;
+    }
+
+    @Benchmark
+    public List<ProductSummaryResponse> projectionPage(Rows rows) {
+        List<ProductSummaryResponse> items = transactionTemplate.execute(status -> productRepository
+                .findSummarySliceByFilters(condition, ProductSortBy.LATEST, null, null, null, PageRequest.of(0, pageSize))
+                .getContent().stream()
+                .map(row -> ProductSummaryResponse.from(row, false, List.of()))
+                .toList());
+        rows.rows += items.size();
+        return items;
+    }
+}
@@ -0,0 +1,105 @@
+package com.cherry.server.product.service;
+
+import com.cherry.server.CherryServerApplication;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductCreateRequest;
+import com.cherry.server.product.dto.ProductCreateResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Listing creation throughput with 10 images and 10 tags, the largest listing the API accepts. Tags are
+ * drawn from a fixed pool, so after warmup they resolve from the tag cache and the measurement is mostly
+ * the product, image and tag-link inserts. Needs the local profile database with at least one user and
+ * category; the listings it creates are deleted again at the end of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductCreateBenchmark {
+
+    private static final int IMAGES = 10;
+    private static final int TAGS = 10;
+    private static final int TAG_POOL = 200;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private JdbcTemplate jdbcTemplate;
+    private long sellerId;
+    private long categoryId;
+    private long lastExistingProductId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CherryServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local")
+                .properties(
+                        "seed.enabled=false",
+                        "product.search.rebuild-on-startup=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+        productService = context.getBean(ProductService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        sellerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class);
+        lastExistingProductId = maxId == null ? 0 : maxId;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_images WHERE product_id > ?", lastExistingProductId);
+        jdbcTemplate.update("DELETE FROM product_tags WHERE product_id > ?", lastExistingProductId);
+        jdbcTemplate.update("DELETE FROM products WHERE id > ?", lastExistingProductId);
+        context.close();
+    }
+
+    @Benchmark
+    public ProductCreateResponse createListing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String batch = UUID.randomUUID().toString();
+        List<String> imageKeys = new ArrayList<>(IMAGES);
+        for (int i = 0; i < IMAGES; i++) {
+            imageKeys.add("bench/" + batch + "/" + i + ".jpg");
+        }
+        List<String> tags = new ArrayList<>(TAGS);
+        for (int i = 0; i < TAGS; i++) {
+            tags.add("bench-tag-" + random.nextInt(TAG_POOL));
+        }
+        return productService.createProduct(sellerId, new ProductCreateRequest(
+                "bench listing " + batch,
+                random.nextInt(1_000, 100_000),
+                "benchmark listing",
+                categoryId,
+                TradeType.DIRECT,
+                imageKeys,
+                tags
+        ));
+    }
+}
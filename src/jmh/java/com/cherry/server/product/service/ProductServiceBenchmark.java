@@ -0,0 +1,93 @@
+package com.cherry.server.product.service;
+
+import com.cherry.server.CherryServerApplication;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@code getProductsJson} with warm caches, the path nearly every feed request takes: cursor decode, cache
+ * key, near-cache hit and, for a logged-in user, the isLiked patch. Needs the local profile database with
+ * seeded products and at least one user, and Redis (as for the local profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"false", "true"})
+    public boolean loggedIn;
+
+    @Param({"false", "true"})
+    public boolean secondPage;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductSearchCondition condition;
+    private Long userId;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(CherryServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local")
+                .properties(
+                        "seed.enabled=false",
+                        "product.search.rebuild-on-startup=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.cherry=INFO",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+        productService = context.getBean(ProductService.class);
+        condition = new ProductSearchCondition(null, null, null, null, null, ProductSortBy.LATEST);
+        userId = loggedIn
+                ? context.getBean(JdbcTemplate.class).queryForObject("SELECT MIN(id) FROM users", Long.class)
+                : null;
+        if (secondPage) {
+            byte[] firstPage = productService.getProductsJson(null, PAGE_SIZE, null, condition, ProductSortBy.LATEST);
+            cursor = new ObjectMapper().readTree(firstPage).path("nextCursor").asText(null);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getProductsJson() {
+        return productService.getProductsJson(cursor, PAGE_SIZE, userId, condition, ProductSortBy.LATEST);
+    }
+
+    @Benchmark
+    public String buildProductsCacheKey() {
+        return productService.buildProductsCacheKey(cursor, condition, ProductSortBy.LATEST, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.cherry.server.product.trending;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency distribution (p50/p99/p99.9 in the SampleTime report) of {@code GET /products/trending} under
+ * concurrent load. Needs a running server (local profile with seed data and Redis); point it elsewhere
+ * with {@code -Dtrending.bench.url=...}. Run once on the previous commit and once on this one to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(32)
+@Fork(1)
+public class TrendingEndpointBenchmark {
+
+    @Param({""})
+    public String bearerToken;
+
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(
+                        System.getProperty("trending.bench.url", "http://localhost:8080/products/trending")))
+                .timeout(Duration.ofSeconds(5))
+                .GET();
+        if (!bearerToken.isBlank()) {
+            builder.header("Authorization", "Bearer " + bearerToken);
+        }
+        request = builder.build();
+    }
+
+    @Benchmark
+    public int trending() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cherry.server.security;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Token work on authenticated requests. The filter validates the token and then reads the user id, and
+ * each of those parses and verifies the token again, so {@code validateAndReadUserId} is the per-request
+ * cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        Field secret = ReflectionUtils.findField(JwtTokenProvider.class, "secret");
+        ReflectionUtils.makeAccessible(secret);
+        ReflectionUtils.setField(secret, provider, "cherry-benchmark-secret-please-change-32bytes");
+        provider.init();
+        token = provider.generateAccessToken(42L, "bench@example.com");
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generateAccessToken(42L, "bench@example.com");
+    }
+
+    @Benchmark
+    public Long readUserId() {
+        return provider.getUserId(token);
+    }
+
+    @Benchmark
+    public Long validateAndReadUserId() {
+        return provider.validateToken(token) ? provider.getUserId(token) : null;
+    }
+}
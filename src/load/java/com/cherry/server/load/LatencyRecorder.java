@@ -0,0 +1,73 @@
+package com.cherry.server.load;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Per-endpoint latency histograms (microseconds, 3 significant digits) and error counts. Recording is
+ * lock-free from any number of threads; {@link #reset()} drops everything recorded so far, which is how
+ * the warmup is left out of the report.
+ */
+final class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    void record(String endpoint, long startNanos, boolean success) {
+        long micros = Math.min((System.nanoTime() - startNanos) / 1_000, MAX_TRACKABLE_MICROS);
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.latency.recordValue(Math.max(1, micros));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void reset() {
+        endpoints.values().forEach(endpoint -> {
+            endpoint.latency.reset();
+            endpoint.errors.reset();
+        });
+        startNanos = System.nanoTime();
+    }
+
+    String report() {
+        double seconds = Math.max(1, System.nanoTime() - startNanos) / 1e9;
+        StringBuilder report = new StringBuilder(String.format(
+                "%-34s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+                    report.append(String.format(
+                            "%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                            entry.getKey(),
+                            histogram.getTotalCount(),
+                            entry.getValue().errors.sum(),
+                            histogram.getTotalCount() / seconds,
+                            millis(histogram, 50),
+                            millis(histogram, 90),
+                            millis(histogram, 99),
+                            millis(histogram, 99.9),
+                            histogram.getMaxValue() / 1_000.0
+                    ));
+                });
+        return report.toString();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    private static final class Endpoint {
+
+        private final Recorder latency = new Recorder(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
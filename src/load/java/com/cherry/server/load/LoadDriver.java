@@ -0,0 +1,189 @@
+package com.cherry.server.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop virtual users on virtual threads. Each user repeatedly picks feed scrolling, a detail view or
+ * a like by the configured weights and pauses for a random think time in between. A separate driver fires
+ * listing creations in bursts. Latency is recorded per endpoint, with the feed split by page depth so a
+ * cursor that degrades deep into the feed stands out from page 1.
+ */
+final class LoadDriver {
+
+    private static final String[] SORTS = {"LATEST", "LATEST", "LATEST", "LATEST", "LATEST", "LATEST", "LOW_PRICE", "HIGH_PRICE"};
+
+    private final LoadSettings settings;
+    private final String baseUrl;
+    private final long[] catalog;
+    private final List<Long> categoryIds;
+    private final List<String> tokens;
+    private final ZipfSampler popularity;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private volatile boolean running = true;
+
+    LoadDriver(LoadSettings settings, String baseUrl, long[] catalog, List<Long> categoryIds, List<String> tokens) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.categoryIds = categoryIds;
+        this.tokens = tokens;
+        this.popularity = new ZipfSampler(catalog.length, settings.zipfExponent());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    String run() throws InterruptedException {
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.users(); i++) {
+                users.submit(this::virtualUser);
+            }
+            users.submit(this::listingBursts);
+
+            System.out.println("[load] warming up for " + settings.warmup());
+            Thread.sleep(settings.warmup());
+            recorder.reset();
+            System.out.println("[load] measuring for " + settings.duration());
+            Thread.sleep(settings.duration());
+            String report = recorder.report();
+            running = false;
+            // The report is taken; interrupt think times, the burst wait and requests still in flight.
+            users.shutdownNow();
+            return report;
+        }
+    }
+
+    private void virtualUser() {
+        int totalWeight = settings.feedWeight() + settings.detailWeight() + settings.likeWeight();
+        while (running) {
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            if (pick < settings.feedWeight()) {
+                scrollFeed();
+            } else if (pick < settings.feedWeight() + settings.detailWeight()) {
+                call("GET /products/{id}", get("/products/" + popularProduct()));
+            } else {
+                call("POST /products/{id}/like", post("/products/" + popularProduct() + "/like", "", randomToken()));
+            }
+            think();
+        }
+    }
+
+    // Anonymous scroll session: page count is geometric around load.feed.mean-pages, capped at max-pages.
+    private void scrollFeed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String sortBy = SORTS[random.nextInt(SORTS.length)];
+        double continueProbability = 1 - 1 / Math.max(1, settings.feedMeanPages());
+        String cursor = null;
+        for (int page = 1; page <= settings.feedMaxPages() && running; page++) {
+            String path = "/products?limit=20&sortBy=" + sortBy + (cursor == null ? "" : "&cursor=" + cursor);
+            String label = page == 1 ? "GET /products page 1" : page <= 10 ? "GET /products pages 2-10" : "GET /products pages 11+";
+            JsonNode body = call(label, get(path));
+            if (body == null || body.path("nextCursor").isNull() || body.path("nextCursor").isMissingNode()) {
+                return;
+            }
+            cursor = body.path("nextCursor").asText();
+            if (random.nextDouble() >= continueProbability) {
+                return;
+            }
+            think();
+        }
+    }
+
+    private void listingBursts() {
+        while (running) {
+            try (ExecutorService burst = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < settings.createBurstSize(); i++) {
+                    burst.submit(this::createListing);
+                }
+            }
+            sleep(settings.createBurstInterval());
+        }
+    }
+
+    private void createListing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> request = Map.of(
+                "title", "load listing " + random.nextInt(1_000_000),
+                "price", 1_000 + random.nextInt(200_000),
+                "description", "created by the load harness",
+                "categoryId", categoryIds.get(random.nextInt(categoryIds.size())),
+                "tradeType", "DIRECT",
+                "imageKeys", List.of(),
+                "tags", List.of("load-" + random.nextInt(50), "load-" + random.nextInt(50), "load-" + random.nextInt(50))
+        );
+        try {
+            call("POST /products", post("/products", objectMapper.writeValueAsString(request), randomToken()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode call(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, start, success);
+            return success && response.body().length > 0 ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private long popularProduct() {
+        return catalog[popularity.next()];
+    }
+
+    private String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private void think() {
+        long maxMillis = settings.thinkTime().toMillis() * 2;
+        if (maxMillis > 0) {
+            sleep(Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxMillis + 1)));
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
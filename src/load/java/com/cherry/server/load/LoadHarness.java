@@ -0,0 +1,121 @@
+package com.cherry.server.load;
+
+import com.cherry.server.CherryServerApplication;
+import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.SeedRunOptions;
+import com.cherry.server.dev.seed.SeedParallelLoader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Starts the application on a random port, seeds it through the seed module and replays the traffic mix
+ * in {@link LoadDriver}, then prints per-endpoint throughput and latency percentiles.
+ * <p>
+ * {@code ./gradlew loadTest} runs against in-memory H2 ({@code load.target=h2}, the {@code load} profile);
+ * {@code -Dload.target=local} uses the local profile's MySQL and Redis, and {@code -Dload.seed-count=0}
+ * reuses whatever is already there. All knobs are listed in {@link LoadSettings}.
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CherryServerApplication.class)
+                .profiles(settings.inMemory() ? "load" : "local")
+                .properties(
+                        "server.port=0",
+                        "seed.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.cherry=INFO",
+                        "logging.level.org.springframework.security=INFO",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run(args)) {
+            if (settings.seedCount() > 0) {
+                System.out.println("[load] seeding " + settings.seedCount() + " products");
+                SeedConfig config = new SeedConfig(settings.seedCount(), settings.seed(), true);
+                String seeded = context.getBean(SeedParallelLoader.class)
+                        .load(config, new SeedRunOptions(false, ""))
+                        .summary();
+                System.out.println("[load] seeded: " + seeded);
+            }
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            long[] catalog = catalog(jdbcTemplate, settings);
+            List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories", Long.class);
+            if (catalog.length == 0 || categoryIds.isEmpty()) {
+                throw new IllegalStateException("No products to load test; run with load.seed-count > 0");
+            }
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<String> tokens = signUpAccounts(baseUrl, settings.accounts());
+
+            String report = new LoadDriver(settings, baseUrl, catalog, categoryIds, tokens).run();
+            System.out.println("[load] " + settings.users() + " users, " + settings.duration() + " measured, target=" + settings.target());
+            System.out.print(report);
+        }
+    }
+
+    /**
+     * The newest visible products, shuffled with the seed so that Zipf rank (popularity) is unrelated to
+     * id or age; rank 0 is the hottest listing.
+     */
+    private static long[] catalog(JdbcTemplate jdbcTemplate, LoadSettings settings) {
+        List<Long> ids = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE status <> 'PENDING' ORDER BY id DESC LIMIT ?",
+                Long.class,
+                settings.catalogSize()
+        ));
+        Collections.shuffle(ids, new Random(settings.seed()));
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static List<String> signUpAccounts(String baseUrl, int accounts) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> tokens = new ArrayList<>(accounts);
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+            for (int i = 0; i < accounts; i++) {
+                String email = "load-" + runId + "-" + i + "@example.com";
+                String password = "load-password-" + i;
+                send(client, objectMapper, baseUrl + "/auth/signup",
+                        Map.of("email", email, "password", password, "nickname", "load-" + i));
+                JsonNode token = send(client, objectMapper, baseUrl + "/auth/login",
+                        Map.of("email", email, "password", password));
+                tokens.add(token.path("accessToken").asText());
+            }
+        }
+        return tokens;
+    }
+
+    private static JsonNode send(HttpClient client, ObjectMapper objectMapper, String url, Map<String, String> body)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(url + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,68 @@
+package com.cherry.server.load;
+
+import java.time.Duration;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Harness knobs, read from {@code -Dload.*} system properties. The defaults approximate production: most
+ * traffic is anonymous feed scrolling, a quarter are detail views with Zipfian popularity, a few likes,
+ * and listings arrive in bursts rather than at a steady rate.
+ */
+record LoadSettings(
+        String target,
+        int seedCount,
+        long seed,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int accounts,
+        Duration thinkTime,
+        int feedWeight,
+        int detailWeight,
+        int likeWeight,
+        double feedMeanPages,
+        int feedMaxPages,
+        double zipfExponent,
+        int catalogSize,
+        int createBurstSize,
+        Duration createBurstInterval
+) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                string("load.target", "h2"),
+                integer("load.seed-count", 20_000),
+                Long.parseLong(string("load.seed", "42")),
+                duration("load.warmup", "15s"),
+                duration("load.duration", "60s"),
+                integer("load.users", 200),
+                integer("load.accounts", 50),
+                duration("load.think-time", "50ms"),
+                integer("load.mix.feed", 70),
+                integer("load.mix.detail", 25),
+                integer("load.mix.like", 5),
+                Double.parseDouble(string("load.feed.mean-pages", "6")),
+                integer("load.feed.max-pages", 200),
+                Double.parseDouble(string("load.zipf-exponent", "1.0")),
+                integer("load.catalog-size", 1_000_000),
+                integer("load.create.burst-size", 25),
+                duration("load.create.burst-interval", "10s")
+        );
+    }
+
+    boolean inMemory() {
+        return "h2".equals(target);
+    }
+
+    private static String string(String key, String defaultValue) {
+        return System.getProperty(key, defaultValue);
+    }
+
+    private static int integer(String key, int defaultValue) {
+        return Integer.parseInt(string(key, String.valueOf(defaultValue)));
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(string(key, defaultValue));
+    }
+}
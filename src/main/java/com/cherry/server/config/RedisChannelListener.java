@@ -0,0 +1,8 @@
+package com.cherry.server.config;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.Topic;
+
+/** A pub/sub listener to register on the shared {@link RedisPubSubConfig} container. */
+public record RedisChannelListener(Topic topic, MessageListener listener) {
+}
@@ -0,0 +1,28 @@
+package com.cherry.server.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * One listener container for every channel the node subscribes to, so all of them share a single
+ * subscription connection and dispatch pool. Modules contribute {@link RedisChannelListener} beans; with
+ * none registered the container never opens a connection.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ObjectProvider<RedisChannelListener> listeners
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        listeners.orderedStream()
+                .forEach(listener -> container.addMessageListener(listener.listener(), listener.topic()));
+        return container;
+    }
+}
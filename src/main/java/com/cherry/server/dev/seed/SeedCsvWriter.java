@@ -0,0 +1,143 @@
+package com.cherry.server.dev.seed;
+
+import com.cherry.server.dev.seed.SeedDataGenerator.GeneratedProduct;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductImageRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductTagRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.IdStarts;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes generated rows to one CSV file per table, in the layout {@link SeedJdbcSeeder#loadCsv} loads:
+ * comma separated, strings in double quotes, backslash escapes and {@code \N} for NULL. Ids are final,
+ * offset from the {@link IdStarts} the load will run against.
+ */
+public class SeedCsvWriter implements Consumer<GeneratedProduct>, AutoCloseable {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final IdStarts ids;
+    private final long startNanos = System.nanoTime();
+    private final Map<SeedTable, BufferedWriter> writers = new EnumMap<>(SeedTable.class);
+    private final Map<String, Long> rows = new LinkedHashMap<>();
+    private long nextImageId;
+    private long nextProductTagId;
+
+    public SeedCsvWriter(Path directory, IdStarts ids) {
+        this.ids = ids;
+        this.nextImageId = ids.productImage();
+        this.nextProductTagId = ids.productTag();
+        try {
+            Files.createDirectories(directory);
+            for (SeedTable table : SeedTable.values()) {
+                writers.put(table, Files.newBufferedWriter(fileFor(directory, table), StandardCharsets.UTF_8));
+                rows.put(table.tableName(), 0L);
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Path fileFor(Path directory, SeedTable table) {
+        return directory.resolve(table.tableName() + ".csv");
+    }
+
+    public void writeReference(ReferenceData reference) {
+        for (int i = 0; i < reference.users().size(); i++) {
+            write(SeedTable.USERS, SeedTable.user(ids.user() + i, reference.users().get(i)));
+        }
+        for (int i = 0; i < reference.categories().size(); i++) {
+            write(SeedTable.CATEGORIES, SeedTable.category(ids.category() + i, reference.categories().get(i)));
+        }
+        for (int i = 0; i < reference.tags().size(); i++) {
+            write(SeedTable.TAGS, SeedTable.tag(ids.tag() + i, reference.tags().get(i)));
+        }
+    }
+
+    @Override
+    public void accept(GeneratedProduct generated) {
+        long productId = ids.product() + (generated.productId() - 1);
+        write(SeedTable.PRODUCTS, SeedTable.product(productId, generated.product(), ids));
+        for (ProductImageRow image : generated.images()) {
+            write(SeedTable.PRODUCT_IMAGES, SeedTable.productImage(nextImageId++, image, ids));
+        }
+        for (ProductTagRow productTag : generated.tags()) {
+            write(SeedTable.PRODUCT_TAGS, SeedTable.productTag(nextProductTagId++, productTag, ids));
+        }
+    }
+
+    public SeedReport finish() {
+        close();
+        return SeedReport.since(startNanos, rows);
+    }
+
+    @Override
+    public void close() {
+        IOException failure = null;
+        for (BufferedWriter writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    private void write(SeedTable table, Object[] values) {
+        StringBuilder line = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendValue(line, values[i]);
+        }
+        line.append('\n');
+        try {
+            writers.get(table).write(line.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows.merge(table.tableName(), 1L, Long::sum);
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+        } else if (value instanceof Boolean bool) {
+            line.append(bool ? '1' : '0');
+        } else if (value instanceof Number) {
+            line.append(value);
+        } else if (value instanceof Timestamp timestamp) {
+            line.append(DATE_TIME.format(timestamp.toLocalDateTime()));
+        } else {
+            line.append('"');
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"' -> line.append("\\\"");
+                    case '\\' -> line.append("\\\\");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    default -> line.append(c);
+                }
+            }
+            line.append('"');
+        }
+    }
+}
@@ -6,16 +6,25 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SeedDataGenerator {
 
+    public static final int MAX_IMAGES_PER_PRODUCT = 4;
+    public static final int MAX_TAGS_PER_PRODUCT = 5;
+
     private static final String SVG_PLACEHOLDER_DATA_URL =
             "data:image/svg+xml;utf8,<svg xmlns='http://www.w3.org/2000/svg' width='256' height='256'><rect width='100%25' height='100%25' fill='%23f5f5f5'/></svg>";
 
+    private static final int SELLER_COUNT = 50;
+
     public record SeedConfig(int productCount, long seed, boolean includeImages) {}
 
     public record GeneratedData(
@@ -58,16 +67,45 @@ public class SeedDataGenerator {
 
     public record ProductTagRow(Long productId, Long tagId, LocalDateTime createdAt, LocalDateTime updatedAt) {}
 
-    public GeneratedData generate(SeedConfig config) {
-        Random random = new Random(config.seed());
-        LocalDateTime now = LocalDateTime.now().withNano(0);
+    public record ReferenceData(
+            List<UserRow> users,
+            List<CategoryRow> categories,
+            List<TagRow> tags,
+            LocalDateTime generatedAt
+    ) {}
 
-        List<CategoryRow> categories = defaultCategories(now);
-        List<TagRow> tags = defaultTags(config.seed(), now);
+    // productId and the ids inside the rows are 1-based positions; the seeder maps them onto real ids.
+    public record GeneratedProduct(
+            long productId,
+            ProductRow product,
+            List<ProductImageRow> images,
+            List<ProductTagRow> tags
+    ) {}
 
-        int sellerCount = 50;
-        List<UserRow> users = new ArrayList<>(sellerCount);
-        for (int i = 0; i < sellerCount; i++) {
+    public GeneratedData generate(SeedConfig config) {
+        ReferenceData reference = referenceData(config);
+        List<ProductRow> products = new ArrayList<>(config.productCount());
+        List<ProductImageRow> productImages = new ArrayList<>();
+        List<ProductTagRow> productTags = new ArrayList<>();
+        generateProducts(config, reference, generated -> {
+            products.add(generated.product());
+            productImages.addAll(generated.images());
+            productTags.addAll(generated.tags());
+        });
+        return new GeneratedData(
+                reference.users(),
+                reference.categories(),
+                reference.tags(),
+                products,
+                productImages,
+                productTags
+        );
+    }
+
+    public ReferenceData referenceData(SeedConfig config) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<UserRow> users = new ArrayList<>(SELLER_COUNT);
+        for (int i = 0; i < SELLER_COUNT; i++) {
             users.add(new UserRow(
                     "seed-" + config.seed() + "-user-" + String.format("%04d", i) + "@example.com",
                     "seed-user-" + i,
@@ -77,85 +115,168 @@ public class SeedDataGenerator {
                     now
             ));
         }
+        return new ReferenceData(users, defaultCategories(now), defaultTags(config.seed(), now), now);
+    }
 
-        List<ProductRow> products = new ArrayList<>(config.productCount());
-        List<ProductImageRow> productImages = new ArrayList<>();
-        List<ProductTagRow> productTags = new ArrayList<>();
+    /**
+     * Hands products to {@code sink} one at a time, each with its images and tag links, so the caller can
+     * write them out as they come instead of holding {@code productCount} rows in memory.
+     */
+    public void generateProducts(SeedConfig config, ReferenceData reference, Consumer<GeneratedProduct> sink) {
+        products(config, reference).forEachRemaining(sink);
+    }
+
+    public Spliterator<GeneratedProduct> products(SeedConfig config, ReferenceData reference) {
+        return products(config, reference, 1, config.productCount());
+    }
+
+    /**
+     * Products {@code firstProductId..lastProductId} (1-based, inclusive), generated lazily. Every product
+     * draws from its own random stream derived from the seed and its id, so a product comes out the same
+     * whichever range, split or thread produces it, and ranges can be generated in parallel.
+     */
+    public Spliterator<GeneratedProduct> products(
+            SeedConfig config,
+            ReferenceData reference,
+            long firstProductId,
+            long lastProductId
+    ) {
+        return new ProductSpliterator(config, reference, firstProductId, lastProductId + 1);
+    }
+
+    public Stream<GeneratedProduct> productStream(SeedConfig config, ReferenceData reference) {
+        return StreamSupport.stream(products(config, reference), false);
+    }
+
+    public GeneratedProduct product(SeedConfig config, ReferenceData reference, long productId) {
+        SplittableRandom random = new SplittableRandom(mix64(config.seed() * 0x9E3779B97F4A7C15L + productId));
+        LocalDateTime now = reference.generatedAt();
+        List<CategoryRow> categories = reference.categories();
 
         // IDs are assigned by the seeder; generator assumes sequential ids starting from 1.
         long firstUserId = 1L;
         long firstCategoryId = 1L;
         long firstTagId = 1L;
-        long firstProductId = 1L;
-
-        for (int i = 0; i < config.productCount(); i++) {
-            long productId = firstProductId + i;
-            long sellerId = firstUserId + random.nextInt(sellerCount);
-            int categoryIndex = random.nextInt(categories.size());
-            long categoryId = firstCategoryId + categoryIndex;
-
-            ProductStatus status = pickStatus(random);
-            TradeType tradeType = pickTradeType(random);
-            int price = pickPrice(random);
-
-            LocalDateTime createdAt = now.minusDays(random.nextInt(180)).minusMinutes(random.nextInt(24 * 60));
-            LocalDateTime updatedAt = createdAt;
-
-            products.add(new ProductRow(
-                    sellerId,
-                    categoryId,
-                    pickTitle(random, categories.get(categoryIndex).displayName()),
-                    "seed description " + i,
-                    price,
-                    status,
-                    tradeType,
+
+        long sellerId = firstUserId + random.nextInt(SELLER_COUNT);
+        int categoryIndex = random.nextInt(categories.size());
+        long categoryId = firstCategoryId + categoryIndex;
+
+        ProductStatus status = pickStatus(random);
+        TradeType tradeType = pickTradeType(random);
+        int price = pickPrice(random);
+
+        LocalDateTime createdAt = now.minusDays(random.nextInt(180)).minusMinutes(random.nextInt(24 * 60));
+        LocalDateTime updatedAt = createdAt;
+
+        ProductRow product = new ProductRow(
+                sellerId,
+                categoryId,
+                pickTitle(random, categories.get(categoryIndex).displayName()),
+                "seed description " + (productId - 1),
+                price,
+                status,
+                tradeType,
+                createdAt,
+                updatedAt
+        );
+
+        List<ProductImageRow> productImages = new ArrayList<>(MAX_IMAGES_PER_PRODUCT);
+        if (config.includeImages()) {
+            productImages.add(new ProductImageRow(
+                    productId,
+                    SVG_PLACEHOLDER_DATA_URL,
+                    SVG_PLACEHOLDER_DATA_URL,
+                    SVG_PLACEHOLDER_DATA_URL,
+                    0,
+                    true,
                     createdAt,
                     updatedAt
             ));
 
-            if (config.includeImages()) {
-                productImages.add(new ProductImageRow(
-                        productId,
-                        SVG_PLACEHOLDER_DATA_URL,
-                        SVG_PLACEHOLDER_DATA_URL,
-                        SVG_PLACEHOLDER_DATA_URL,
-                        0,
-                        true,
-                        createdAt,
-                        updatedAt
-                ));
-
-                boolean isAlbum = "ALBUM".equals(categories.get(categoryIndex).code());
-                if (isAlbum) {
-                    for (int j = 0; j < 3; j++) {
-                        productImages.add(new ProductImageRow(
-                                productId,
-                                SVG_PLACEHOLDER_DATA_URL,
-                                SVG_PLACEHOLDER_DATA_URL,
-                                SVG_PLACEHOLDER_DATA_URL,
-                                j,
-                                false,
-                                createdAt,
-                                updatedAt
-                        ));
-                    }
+            boolean isAlbum = "ALBUM".equals(categories.get(categoryIndex).code());
+            if (isAlbum) {
+                for (int j = 0; j < 3; j++) {
+                    productImages.add(new ProductImageRow(
+                            productId,
+                            SVG_PLACEHOLDER_DATA_URL,
+                            SVG_PLACEHOLDER_DATA_URL,
+                            SVG_PLACEHOLDER_DATA_URL,
+                            j,
+                            false,
+                            createdAt,
+                            updatedAt
+                    ));
                 }
             }
+        }
 
-            int tagCount = random.nextInt(6); // 0..5
-            if (tagCount > 0) {
-                Set<Long> chosen = new LinkedHashSet<>();
-                while (chosen.size() < tagCount) {
-                    long tagId = firstTagId + random.nextInt(tags.size());
-                    chosen.add(tagId);
-                }
-                for (Long tagId : chosen) {
-                    productTags.add(new ProductTagRow(productId, tagId, createdAt, updatedAt));
-                }
+        List<ProductTagRow> productTags = new ArrayList<>(MAX_TAGS_PER_PRODUCT);
+        int productTagCount = random.nextInt(MAX_TAGS_PER_PRODUCT + 1); // 0..5
+        if (productTagCount > 0) {
+            Set<Long> chosen = new LinkedHashSet<>();
+            while (chosen.size() < productTagCount) {
+                long tagId = firstTagId + random.nextInt(reference.tags().size());
+                chosen.add(tagId);
+            }
+            for (Long tagId : chosen) {
+                productTags.add(new ProductTagRow(productId, tagId, createdAt, updatedAt));
             }
         }
 
-        return new GeneratedData(users, categories, tags, products, productImages, productTags);
+        return new GeneratedProduct(productId, product, productImages, productTags);
+    }
+
+    private final class ProductSpliterator implements Spliterator<GeneratedProduct> {
+
+        private final SeedConfig config;
+        private final ReferenceData reference;
+        private long next;
+        private final long end;
+
+        private ProductSpliterator(SeedConfig config, ReferenceData reference, long next, long end) {
+            this.config = config;
+            this.reference = reference;
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super GeneratedProduct> action) {
+            if (next >= end) {
+                return false;
+            }
+            action.accept(product(config, reference, next++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<GeneratedProduct> trySplit() {
+            long mid = next + (end - next) / 2;
+            if (mid <= next) {
+                return null;
+            }
+            ProductSpliterator prefix = new ProductSpliterator(config, reference, next, mid);
+            next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - next);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+    }
+
+    // MurmurHash3 finalizer: neighbouring product ids get unrelated random streams.
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB93FE1A85E53L;
+        return value ^ (value >>> 33);
     }
 
     private static List<CategoryRow> defaultCategories(LocalDateTime now) {
@@ -177,28 +298,28 @@ public class SeedDataGenerator {
         return tags;
     }
 
-    private static ProductStatus pickStatus(Random random) {
+    private static ProductStatus pickStatus(SplittableRandom random) {
         int r = random.nextInt(100);
         if (r < 70) return ProductStatus.SELLING;
         if (r < 90) return ProductStatus.RESERVED;
         return ProductStatus.SOLD;
     }
 
-    private static TradeType pickTradeType(Random random) {
+    private static TradeType pickTradeType(SplittableRandom random) {
         int r = random.nextInt(100);
         if (r < 40) return TradeType.DIRECT;
         if (r < 80) return TradeType.DELIVERY;
         return TradeType.BOTH;
     }
 
-    private static int pickPrice(Random random) {
+    private static int pickPrice(SplittableRandom random) {
         int bucket = random.nextInt(100);
         if (bucket < 60) return 1000 + random.nextInt(49000); // 1k..50k
         if (bucket < 90) return 50000 + random.nextInt(150000); // 50k..200k
         return 200000 + random.nextInt(300000); // 200k..500k
     }
 
-    private static String pickTitle(Random random, String categoryName) {
+    private static String pickTitle(SplittableRandom random, String categoryName) {
         String[] adjectives = {"새상품", "미개봉", "급처", "레어", "한정"};
         return adjectives[random.nextInt(adjectives.length)] + " " + categoryName + " " + (1000 + random.nextInt(9000));
     }
@@ -1,18 +1,52 @@
 package com.cherry.server.dev.seed;
 
+import com.cherry.server.dev.seed.SeedDataGenerator.CategoryRow;
 import com.cherry.server.dev.seed.SeedDataGenerator.GeneratedData;
-import java.sql.Timestamp;
+import com.cherry.server.dev.seed.SeedDataGenerator.GeneratedProduct;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductImageRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductTagRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
+import com.cherry.server.dev.seed.SeedDataGenerator.TagRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.UserRow;
+import com.cherry.server.product.repository.ProductRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Writes generated rows with explicit ids, {@code seed.batch-size} rows per JDBC batch. On MySQL with
+ * rewriteBatchedStatements (the local profile URL) every batch goes out as one multi-row INSERT.
+ */
 @Component
-@RequiredArgsConstructor
 public class SeedJdbcSeeder {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public SeedJdbcSeeder(
+            JdbcTemplate jdbcTemplate,
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${seed.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
 
     @Transactional
     public void seed(GeneratedData data, SeedRunOptions options) {
@@ -20,23 +54,214 @@ public class SeedJdbcSeeder {
             truncateAll(options.confirm());
         }
 
-        long userIdStart = nextId("users");
-        long categoryIdStart = nextId("categories");
-        long tagIdStart = nextId("tags");
-        long productIdStart = nextId("products");
-        long productImageIdStart = nextId("product_images");
-        long productTagIdStart = nextId("product_tags");
+        IdStarts ids = nextIds();
+        insertReferenceData(data.users(), data.categories(), data.tags(), ids);
+
+        List<Object[]> products = new ArrayList<>(data.products().size());
+        for (int i = 0; i < data.products().size(); i++) {
+            products.add(SeedTable.product(ids.product() + i, data.products().get(i), ids));
+        }
+        batchInsert(SeedTable.PRODUCTS, products);
+        insertProductImages(data.productImages(), ids.productImage(), ids);
+        if (!data.productImages().isEmpty()) {
+            productRepository.backfillThumbnailUrls(ids.product(), ids.product() + data.products().size() - 1);
+        }
+        insertProductTags(data.productTags(), ids.productTag(), ids);
+    }
+
+    /**
+     * Starts a streamed load: truncates if asked and writes users, categories and tags right away. Products
+     * handed to the returned session are buffered and written {@code seed.batch-size} at a time, each batch
+     * together with its images and tag links in its own transaction, so memory stays flat however many
+     * products are generated.
+     */
+    public BatchSession startBatch(ReferenceData reference, SeedRunOptions options) {
+        long startNanos = System.nanoTime();
+        IdStarts ids = insertReference(reference, options);
+        Map<String, Long> rows = new LinkedHashMap<>();
+        rows.put(SeedTable.USERS.tableName(), (long) reference.users().size());
+        rows.put(SeedTable.CATEGORIES.tableName(), (long) reference.categories().size());
+        rows.put(SeedTable.TAGS.tableName(), (long) reference.tags().size());
+        return new BatchSession(ids, false, false, startNanos, rows);
+    }
+
+    // Truncates if asked, then writes users, categories and tags and returns where every table's rows start.
+    @Transactional
+    public IdStarts insertReference(ReferenceData reference, SeedRunOptions options) {
+        if (options.truncate()) {
+            truncateAll(options.confirm());
+        }
+        IdStarts ids = nextIds();
+        insertReferenceData(reference.users(), reference.categories(), reference.tags(), ids);
+        return ids;
+    }
 
-        insertUsers(data.users(), userIdStart);
-        insertCategories(data.categories(), categoryIdStart);
-        insertTags(data.tags(), tagIdStart);
-        insertProducts(data.products(), productIdStart, userIdStart, categoryIdStart);
-        insertProductImages(data.productImages(), productImageIdStart, productIdStart);
-        insertProductTags(data.productTags(), productTagIdStart, productIdStart, tagIdStart);
+    /**
+     * A session for one range of products when several are written at once. Image and tag-link ids come
+     * from fixed per-product slots ({@link SeedDataGenerator#MAX_IMAGES_PER_PRODUCT} and
+     * {@link SeedDataGenerator#MAX_TAGS_PER_PRODUCT} wide) instead of a running counter, so ranges do not
+     * need to know how many rows the ranges before them produced; unused slots are left as id gaps.
+     * With {@code relaxChecks} each batch runs with MySQL's foreign key and unique checks off for its
+     * connection, which is safe because every id is generated and every reference row already exists.
+     */
+    public BatchSession partitionSession(IdStarts ids, boolean relaxChecks) {
+        return new BatchSession(ids, true, relaxChecks, System.nanoTime(), new LinkedHashMap<>());
+    }
+
+    public boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    /**
+     * Loads the files written by {@link SeedCsvWriter} with LOAD DATA LOCAL INFILE, which MySQL only allows
+     * with {@code local_infile=ON} on the server and {@code allowLoadLocalInfile=true} on the JDBC URL.
+     */
+    @Transactional
+    public SeedReport loadCsv(Path directory, SeedRunOptions options) {
+        long startNanos = System.nanoTime();
+        if (options.truncate()) {
+            truncateAll(options.confirm());
+        }
+        long firstProductId = nextId("products");
+        Map<String, Long> rows = new LinkedHashMap<>();
+        for (SeedTable table : SeedTable.values()) {
+            Path file = SeedCsvWriter.fileFor(directory, table);
+            if (!Files.exists(file)) {
+                continue;
+            }
+            String path = file.toAbsolutePath().toString().replace('\\', '/').replace("'", "\\'");
+            int loaded = jdbcTemplate.update(
+                    "LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE " + table.tableName() +
+                            " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'" +
+                            " ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (" + table.columns() + ")"
+            );
+            rows.put(table.tableName(), (long) loaded);
+        }
+        long lastProductId = productRepository.findMaxId();
+        if (rows.getOrDefault(SeedTable.PRODUCT_IMAGES.tableName(), 0L) > 0 && lastProductId >= firstProductId) {
+            productRepository.backfillThumbnailUrls(firstProductId, lastProductId);
+        }
+        return SeedReport.since(startNanos, rows);
     }
 
     public record SeedRunOptions(boolean truncate, String confirm) {}
 
+    // First id each table's generated rows are written from; generated 1-based ids are offset onto these.
+    public record IdStarts(long user, long category, long tag, long product, long productImage, long productTag) {
+
+        public static final IdStarts EMPTY_TABLES = new IdStarts(1, 1, 1, 1, 1, 1);
+    }
+
+    public IdStarts nextIds() {
+        return new IdStarts(
+                nextId("users"),
+                nextId("categories"),
+                nextId("tags"),
+                nextId("products"),
+                nextId("product_images"),
+                nextId("product_tags")
+        );
+    }
+
+    public final class BatchSession implements Consumer<GeneratedProduct> {
+
+        private final IdStarts ids;
+        private final boolean slotIds;
+        private final boolean relaxChecks;
+        private final long startNanos;
+        private final Map<String, Long> rows;
+        private final List<Object[]> products = new ArrayList<>();
+        private final List<Object[]> images = new ArrayList<>();
+        private final List<Object[]> productTags = new ArrayList<>();
+        private long nextImageId;
+        private long nextProductTagId;
+        private long firstBufferedProductId;
+        private long lastBufferedProductId;
+        // Written by the session's own thread only; read by progress reporting.
+        private volatile long productsWritten;
+        private volatile long rowsWritten;
+
+        private BatchSession(IdStarts ids, boolean slotIds, boolean relaxChecks, long startNanos, Map<String, Long> rows) {
+            this.ids = ids;
+            this.slotIds = slotIds;
+            this.relaxChecks = relaxChecks;
+            this.startNanos = startNanos;
+            this.rows = rows;
+            this.nextImageId = ids.productImage();
+            this.nextProductTagId = ids.productTag();
+        }
+
+        @Override
+        public void accept(GeneratedProduct generated) {
+            long productId = ids.product() + (generated.productId() - 1);
+            if (products.isEmpty()) {
+                firstBufferedProductId = productId;
+            }
+            lastBufferedProductId = productId;
+            products.add(SeedTable.product(productId, generated.product(), ids));
+            if (slotIds) {
+                nextImageId = ids.productImage() + (generated.productId() - 1) * SeedDataGenerator.MAX_IMAGES_PER_PRODUCT;
+                nextProductTagId = ids.productTag() + (generated.productId() - 1) * SeedDataGenerator.MAX_TAGS_PER_PRODUCT;
+            }
+            for (ProductImageRow image : generated.images()) {
+                images.add(SeedTable.productImage(nextImageId++, image, ids));
+            }
+            for (ProductTagRow productTag : generated.tags()) {
+                productTags.add(SeedTable.productTag(nextProductTagId++, productTag, ids));
+            }
+            if (products.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        public SeedReport finish() {
+            flush();
+            return SeedReport.since(startNanos, rows);
+        }
+
+        public long productsWritten() {
+            return productsWritten;
+        }
+
+        public long rowsWritten() {
+            return rowsWritten;
+        }
+
+        private void flush() {
+            if (products.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (relaxChecks) {
+                    jdbcTemplate.execute("SET SESSION foreign_key_checks = 0, unique_checks = 0");
+                }
+                try {
+                    batchInsert(SeedTable.PRODUCTS, products);
+                    batchInsert(SeedTable.PRODUCT_IMAGES, images);
+                    if (!images.isEmpty()) {
+                        productRepository.backfillThumbnailUrls(firstBufferedProductId, lastBufferedProductId);
+                    }
+                    batchInsert(SeedTable.PRODUCT_TAGS, productTags);
+                } finally {
+                    // The connection goes back to the pool after this transaction.
+                    if (relaxChecks) {
+                        jdbcTemplate.execute("SET SESSION foreign_key_checks = 1, unique_checks = 1");
+                    }
+                }
+            });
+            rows.merge(SeedTable.PRODUCTS.tableName(), (long) products.size(), Long::sum);
+            rows.merge(SeedTable.PRODUCT_IMAGES.tableName(), (long) images.size(), Long::sum);
+            rows.merge(SeedTable.PRODUCT_TAGS.tableName(), (long) productTags.size(), Long::sum);
+            productsWritten += products.size();
+            rowsWritten += products.size() + images.size() + productTags.size();
+            products.clear();
+            images.clear();
+            productTags.clear();
+        }
+    }
+
     private void truncateAll(String confirm) {
         if (!"YES".equals(confirm)) {
             throw new IllegalArgumentException("Refusing to truncate without seed.confirm=YES");
@@ -55,124 +280,46 @@ public class SeedJdbcSeeder {
         return (max == null ? 0 : max) + 1;
     }
 
-    private void insertUsers(List<SeedDataGenerator.UserRow> users, long idStart) {
+    private void insertReferenceData(List<UserRow> users, List<CategoryRow> categories, List<TagRow> tags, IdStarts ids) {
+        List<Object[]> userRows = new ArrayList<>(users.size());
         for (int i = 0; i < users.size(); i++) {
-            SeedDataGenerator.UserRow row = users.get(i);
-            long id = idStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO users (id, email, nickname, password, profile_image_url, created_at, updated_at) " +
-                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
-                    id,
-                    row.email(),
-                    row.nickname(),
-                    row.passwordHash(),
-                    row.profileImageUrl(),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+            userRows.add(SeedTable.user(ids.user() + i, users.get(i)));
         }
-    }
+        batchInsert(SeedTable.USERS, userRows);
 
-    private void insertCategories(List<SeedDataGenerator.CategoryRow> categories, long idStart) {
+        List<Object[]> categoryRows = new ArrayList<>(categories.size());
         for (int i = 0; i < categories.size(); i++) {
-            SeedDataGenerator.CategoryRow row = categories.get(i);
-            long id = idStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO categories (id, code, display_name, is_active, sort_order, created_at, updated_at) " +
-                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
-                    id,
-                    row.code(),
-                    row.displayName(),
-                    row.isActive(),
-                    row.sortOrder(),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+            categoryRows.add(SeedTable.category(ids.category() + i, categories.get(i)));
         }
-    }
+        batchInsert(SeedTable.CATEGORIES, categoryRows);
 
-    private void insertTags(List<SeedDataGenerator.TagRow> tags, long idStart) {
+        List<Object[]> tagRows = new ArrayList<>(tags.size());
         for (int i = 0; i < tags.size(); i++) {
-            SeedDataGenerator.TagRow row = tags.get(i);
-            long id = idStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO tags (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)",
-                    id,
-                    row.name(),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+            tagRows.add(SeedTable.tag(ids.tag() + i, tags.get(i)));
         }
+        batchInsert(SeedTable.TAGS, tagRows);
     }
 
-    private void insertProducts(
-            List<SeedDataGenerator.ProductRow> products,
-            long productIdStart,
-            long userIdStart,
-            long categoryIdStart
-    ) {
-        for (int i = 0; i < products.size(); i++) {
-            SeedDataGenerator.ProductRow row = products.get(i);
-            long id = productIdStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO products (id, seller_user_id, category_id, title, description, price, status, trade_type, created_at, updated_at) " +
-                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
-                    id,
-                    userIdStart + (row.sellerId() - 1),
-                    categoryIdStart + (row.categoryId() - 1),
-                    row.title(),
-                    row.description(),
-                    row.price(),
-                    row.status().name(),
-                    row.tradeType().name(),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+    private void insertProductImages(List<ProductImageRow> images, long idStart, IdStarts ids) {
+        List<Object[]> rows = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            rows.add(SeedTable.productImage(idStart + i, images.get(i), ids));
         }
+        batchInsert(SeedTable.PRODUCT_IMAGES, rows);
     }
 
-    private void insertProductImages(
-            List<SeedDataGenerator.ProductImageRow> images,
-            long productImageIdStart,
-            long productIdStart
-    ) {
-        for (int i = 0; i < images.size(); i++) {
-            SeedDataGenerator.ProductImageRow row = images.get(i);
-            long id = productImageIdStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO product_images (id, product_id, image_url, original_url, thumbnail_url, image_order, is_thumbnail, created_at, updated_at) " +
-                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
-                    id,
-                    productIdStart + (row.productId() - 1),
-                    row.imageUrl(),
-                    row.originalUrl(),
-                    row.thumbnailUrl(),
-                    row.imageOrder(),
-                    row.isThumbnail(),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+    private void insertProductTags(List<ProductTagRow> productTags, long idStart, IdStarts ids) {
+        List<Object[]> rows = new ArrayList<>(productTags.size());
+        for (int i = 0; i < productTags.size(); i++) {
+            rows.add(SeedTable.productTag(idStart + i, productTags.get(i), ids));
         }
+        batchInsert(SeedTable.PRODUCT_TAGS, rows);
     }
 
-    private void insertProductTags(
-            List<SeedDataGenerator.ProductTagRow> productTags,
-            long productTagIdStart,
-            long productIdStart,
-            long tagIdStart
-    ) {
-        for (int i = 0; i < productTags.size(); i++) {
-            SeedDataGenerator.ProductTagRow row = productTags.get(i);
-            long id = productTagIdStart + i;
-            jdbcTemplate.update(
-                    "INSERT INTO product_tags (id, product_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
-                    id,
-                    productIdStart + (row.productId() - 1),
-                    tagIdStart + (row.tagId() - 1),
-                    Timestamp.valueOf(row.createdAt()),
-                    Timestamp.valueOf(row.updatedAt())
-            );
+    private void batchInsert(SeedTable table, List<Object[]> rows) {
+        String sql = table.insertSql();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
         }
     }
 }
-
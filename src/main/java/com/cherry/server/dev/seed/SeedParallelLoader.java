@@ -0,0 +1,114 @@
+package com.cherry.server.dev.seed;
+
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
+import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.BatchSession;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.IdStarts;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.SeedRunOptions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds products in {@code seed.parallelism} contiguous id ranges at once, one virtual thread per range.
+ * Ids are fixed up front: reference rows are written first and {@link IdStarts} is read once, then every
+ * range maps its generated ids onto those starts, so ranges never coordinate while they run. Each batch
+ * borrows a pooled connection for its transaction, so parallelism should stay below the Hikari pool size.
+ */
+@Component
+public class SeedParallelLoader {
+
+    private final SeedJdbcSeeder seeder;
+    private final SeedDataGenerator generator;
+    private final int parallelism;
+    private final boolean relaxChecks;
+    private final Duration progressInterval;
+
+    public SeedParallelLoader(
+            SeedJdbcSeeder seeder,
+            SeedDataGenerator generator,
+            @Value("${seed.parallelism:4}") int parallelism,
+            @Value("${seed.relax-checks:true}") boolean relaxChecks,
+            @Value("${seed.progress-interval:5s}") Duration progressInterval
+    ) {
+        this.seeder = seeder;
+        this.generator = generator;
+        this.parallelism = parallelism;
+        this.relaxChecks = relaxChecks;
+        this.progressInterval = progressInterval;
+    }
+
+    public SeedReport load(SeedConfig config, SeedRunOptions options) {
+        long startNanos = System.nanoTime();
+        ReferenceData reference = generator.referenceData(config);
+        IdStarts ids = seeder.insertReference(reference, options);
+        // foreign_key_checks and unique_checks are MySQL session variables; other databases load as is.
+        boolean relax = relaxChecks && seeder.isMySql();
+
+        int partitions = Math.max(1, Math.min(parallelism, config.productCount()));
+        List<BatchSession> sessions = new ArrayList<>(partitions);
+        List<CompletableFuture<SeedReport>> results = new ArrayList<>(partitions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int partition = 0; partition < partitions; partition++) {
+                long first = (long) config.productCount() * partition / partitions + 1;
+                long last = (long) config.productCount() * (partition + 1) / partitions;
+                BatchSession session = seeder.partitionSession(ids, relax);
+                sessions.add(session);
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    generator.products(config, reference, first, last).forEachRemaining(session);
+                    return session.finish();
+                }, executor));
+            }
+            awaitWithProgress(executor, results, sessions, config.productCount(), startNanos);
+        }
+
+        Map<String, Long> rows = new LinkedHashMap<>();
+        rows.put(SeedTable.USERS.tableName(), (long) reference.users().size());
+        rows.put(SeedTable.CATEGORIES.tableName(), (long) reference.categories().size());
+        rows.put(SeedTable.TAGS.tableName(), (long) reference.tags().size());
+        for (CompletableFuture<SeedReport> result : results) {
+            result.join().rowsByTable().forEach((table, count) -> rows.merge(table, count, Long::sum));
+        }
+        return SeedReport.since(startNanos, rows);
+    }
+
+    private void awaitWithProgress(
+            ExecutorService executor,
+            List<CompletableFuture<SeedReport>> results,
+            List<BatchSession> sessions,
+            long totalProducts,
+            long startNanos
+    ) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+        while (true) {
+            try {
+                all.get(progressInterval.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                long products = sessions.stream().mapToLong(BatchSession::productsWritten).sum();
+                long rows = sessions.stream().mapToLong(BatchSession::rowsWritten).sum();
+                long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+                System.out.println("[seed] progress: products=" + products + "/" + totalProducts +
+                        " (" + products * 100 / Math.max(1, totalProducts) + "%), " + rows * 1000 / millis + " rows/s");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                throw new IllegalStateException("Interrupted while seeding", e);
+            } catch (ExecutionException e) {
+                // One failed range stops the run; the batches other ranges already committed stay.
+                executor.shutdownNow();
+                throw new IllegalStateException("Seeding a product range failed", e.getCause());
+            }
+        }
+    }
+}
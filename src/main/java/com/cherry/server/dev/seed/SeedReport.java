@@ -0,0 +1,33 @@
+package com.cherry.server.dev.seed;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record SeedReport(Map<String, Long> rowsByTable, Duration elapsed) {
+
+    public SeedReport {
+        rowsByTable = Collections.unmodifiableMap(new LinkedHashMap<>(rowsByTable));
+    }
+
+    public static SeedReport since(long startNanos, Map<String, Long> rowsByTable) {
+        return new SeedReport(rowsByTable, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    public long totalRows() {
+        return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long rowsPerSecond() {
+        return totalRows() * 1000 / Math.max(1, elapsed.toMillis());
+    }
+
+    public String summary() {
+        String tables = rowsByTable.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(" "));
+        return "rows=" + totalRows() + " (" + tables + ") in " + elapsed.toMillis() + "ms, " + rowsPerSecond() + " rows/s";
+    }
+}
@@ -1,6 +1,8 @@
 package com.cherry.server.dev.seed;
 
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
 import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import java.nio.file.Path;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
@@ -12,30 +14,55 @@ import org.springframework.beans.factory.annotation.Value;
 @ConditionalOnProperty(name = "seed.enabled", havingValue = "true")
 public class SeedRunner implements CommandLineRunner {
 
+    /**
+     * IN_MEMORY generates everything first and writes it in one transaction. BATCH streams products into
+     * per-batch transactions and is the one to use for large counts. CSV writes load files to
+     * {@code seed.csv-dir} and, with {@code seed.csv-load=true}, loads them with LOAD DATA LOCAL INFILE.
+     * PARALLEL is BATCH split into {@code seed.parallelism} product ranges written concurrently.
+     */
+    public enum Mode {
+        IN_MEMORY,
+        BATCH,
+        CSV,
+        PARALLEL
+    }
+
     private final SeedJdbcSeeder seeder;
     private final SeedDataGenerator generator;
+    private final SeedParallelLoader parallelLoader;
     private final int count;
     private final long seed;
     private final boolean includeImages;
     private final boolean truncate;
     private final String confirm;
+    private final Mode mode;
+    private final Path csvDir;
+    private final boolean csvLoad;
 
     public SeedRunner(
             SeedJdbcSeeder seeder,
             SeedDataGenerator generator,
+            SeedParallelLoader parallelLoader,
             @Value("${seed.count:10000}") int count,
             @Value("${seed.seed:42}") long seed,
             @Value("${seed.include-images:false}") boolean includeImages,
             @Value("${seed.truncate:false}") boolean truncate,
-            @Value("${seed.confirm:}") String confirm
+            @Value("${seed.confirm:}") String confirm,
+            @Value("${seed.mode:IN_MEMORY}") Mode mode,
+            @Value("${seed.csv-dir:build/seed-csv}") Path csvDir,
+            @Value("${seed.csv-load:false}") boolean csvLoad
     ) {
         this.seeder = seeder;
         this.generator = generator;
+        this.parallelLoader = parallelLoader;
         this.count = count;
         this.seed = seed;
         this.includeImages = includeImages;
         this.truncate = truncate;
         this.confirm = confirm;
+        this.mode = mode;
+        this.csvDir = csvDir;
+        this.csvLoad = csvLoad;
     }
 
     @Override
@@ -47,8 +74,38 @@ public class SeedRunner implements CommandLineRunner {
         if (truncate && !"YES".equals(confirm)) {
             throw new IllegalArgumentException("Refusing to truncate without seed.confirm=YES");
         }
-        SeedDataGenerator.GeneratedData data = generator.generate(new SeedConfig(count, seed, includeImages));
-        seeder.seed(data, new SeedJdbcSeeder.SeedRunOptions(truncate, confirm));
-        System.out.println("[seed] done: products=" + count + " seed=" + seed + " truncate=" + truncate);
+        SeedConfig config = new SeedConfig(count, seed, includeImages);
+        SeedJdbcSeeder.SeedRunOptions options = new SeedJdbcSeeder.SeedRunOptions(truncate, confirm);
+        switch (mode) {
+            case IN_MEMORY -> {
+                long startNanos = System.nanoTime();
+                SeedDataGenerator.GeneratedData data = generator.generate(config);
+                seeder.seed(data, options);
+                System.out.println("[seed] in-memory load took " + (System.nanoTime() - startNanos) / 1_000_000 + "ms");
+            }
+            case BATCH -> {
+                ReferenceData reference = generator.referenceData(config);
+                SeedJdbcSeeder.BatchSession session = seeder.startBatch(reference, options);
+                generator.generateProducts(config, reference, session);
+                System.out.println("[seed] batch load: " + session.finish().summary());
+            }
+            case CSV -> {
+                ReferenceData reference = generator.referenceData(config);
+                // Truncation only happens in loadCsv, so the files are numbered for the tables as they will be then.
+                SeedJdbcSeeder.IdStarts ids = truncate ? SeedJdbcSeeder.IdStarts.EMPTY_TABLES : seeder.nextIds();
+                SeedReport written;
+                try (SeedCsvWriter writer = new SeedCsvWriter(csvDir, ids)) {
+                    writer.writeReference(reference);
+                    generator.generateProducts(config, reference, writer);
+                    written = writer.finish();
+                }
+                System.out.println("[seed] csv written to " + csvDir.toAbsolutePath() + ": " + written.summary());
+                if (csvLoad) {
+                    System.out.println("[seed] csv load: " + seeder.loadCsv(csvDir, options).summary());
+                }
+            }
+            case PARALLEL -> System.out.println("[seed] parallel load: " + parallelLoader.load(config, options).summary());
+        }
+        System.out.println("[seed] done: products=" + count + " seed=" + seed + " truncate=" + truncate + " mode=" + mode);
     }
 }
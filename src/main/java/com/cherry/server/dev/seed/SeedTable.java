@@ -0,0 +1,114 @@
+package com.cherry.server.dev.seed;
+
+import com.cherry.server.dev.seed.SeedDataGenerator.CategoryRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductImageRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.ProductTagRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.TagRow;
+import com.cherry.server.dev.seed.SeedDataGenerator.UserRow;
+import com.cherry.server.dev.seed.SeedJdbcSeeder.IdStarts;
+import java.sql.Timestamp;
+import java.util.Collections;
+
+/**
+ * Seeded tables in foreign-key order, with the column list shared by the batched INSERTs and the CSV files,
+ * and the mapping from generated rows (1-based ids) to column values.
+ */
+enum SeedTable {
+
+    USERS("users", "id, email, nickname, password, profile_image_url, created_at, updated_at"),
+    CATEGORIES("categories", "id, code, display_name, is_active, sort_order, created_at, updated_at"),
+    TAGS("tags", "id, name, created_at, updated_at"),
+    PRODUCTS("products", "id, seller_user_id, category_id, title, description, price, status, trade_type, created_at, updated_at"),
+    PRODUCT_IMAGES("product_images", "id, product_id, image_url, original_url, thumbnail_url, image_order, is_thumbnail, created_at, updated_at"),
+    PRODUCT_TAGS("product_tags", "id, product_id, tag_id, created_at, updated_at");
+
+    private final String tableName;
+    private final String columns;
+
+    SeedTable(String tableName, String columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    String columns() {
+        return columns;
+    }
+
+    String insertSql() {
+        int columnCount = columns.split(",").length;
+        return "INSERT INTO " + tableName + " (" + columns + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+    }
+
+    static Object[] user(long id, UserRow row) {
+        return new Object[]{
+                id,
+                row.email(),
+                row.nickname(),
+                row.passwordHash(),
+                row.profileImageUrl(),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.updatedAt())
+        };
+    }
+
+    static Object[] category(long id, CategoryRow row) {
+        return new Object[]{
+                id,
+                row.code(),
+                row.displayName(),
+                row.isActive(),
+                row.sortOrder(),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.updatedAt())
+        };
+    }
+
+    static Object[] tag(long id, TagRow row) {
+        return new Object[]{id, row.name(), Timestamp.valueOf(row.createdAt()), Timestamp.valueOf(row.updatedAt())};
+    }
+
+    static Object[] product(long id, ProductRow row, IdStarts ids) {
+        return new Object[]{
+                id,
+                ids.user() + (row.sellerId() - 1),
+                ids.category() + (row.categoryId() - 1),
+                row.title(),
+                row.description(),
+                row.price(),
+                row.status().name(),
+                row.tradeType().name(),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.updatedAt())
+        };
+    }
+
+    static Object[] productImage(long id, ProductImageRow row, IdStarts ids) {
+        return new Object[]{
+                id,
+                ids.product() + (row.productId() - 1),
+                row.imageUrl(),
+                row.originalUrl(),
+                row.thumbnailUrl(),
+                row.imageOrder(),
+                row.isThumbnail(),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.updatedAt())
+        };
+    }
+
+    static Object[] productTag(long id, ProductTagRow row, IdStarts ids) {
+        return new Object[]{
+                id,
+                ids.product() + (row.productId() - 1),
+                ids.tag() + (row.tagId() - 1),
+                Timestamp.valueOf(row.createdAt()),
+                Timestamp.valueOf(row.updatedAt())
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.cherry.server.global.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset cursor: the last row's sort value and id, written as
+ * {@code version | kind | scope (4 bytes) | varint key | varint id} and base64url-encoded without padding.
+ * The key is epoch micros for created-at orders and the price for price orders. {@code scope} is a hash of
+ * whatever the list was filtered by, so a cursor only decodes for the kind and filters that issued it.
+ */
+public record PageCursor(long key, long id) {
+
+    private static final byte VERSION = 1;
+    // version + kind + scope + two 10-byte varints
+    private static final int MAX_BYTES = 26;
+    private static final int MAX_LENGTH = (MAX_BYTES * 4 + 2) / 3;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public enum Kind {
+        FEED_LATEST,
+        FEED_LOW_PRICE,
+        FEED_HIGH_PRICE,
+        MY_PRODUCTS,
+        MY_LIKES
+    }
+
+    public static PageCursor ofCreatedAt(LocalDateTime createdAt, long id) {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+        return new PageCursor(micros, id);
+    }
+
+    public static PageCursor ofPrice(int price, long id) {
+        return new PageCursor(price, id);
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(key, 1_000_000L),
+                (int) Math.floorMod(key, 1_000_000L) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    public int price() {
+        return (int) key;
+    }
+
+    public String encode(Kind kind, int scope) {
+        byte[] bytes = new byte[MAX_BYTES];
+        bytes[0] = VERSION;
+        bytes[1] = (byte) kind.ordinal();
+        bytes[2] = (byte) (scope >>> 24);
+        bytes[3] = (byte) (scope >>> 16);
+        bytes[4] = (byte) (scope >>> 8);
+        bytes[5] = (byte) scope;
+        int position = writeVarint(bytes, 6, key);
+        position = writeVarint(bytes, position, id);
+        return ENCODER.encodeToString(Arrays.copyOf(bytes, position));
+    }
+
+    /**
+     * Returns {@code null} for a missing cursor and rejects one that is malformed or was issued for a
+     * different kind or scope with 400.
+     */
+    public static PageCursor decode(String cursor, Kind kind, int scope) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (cursor.length() > MAX_LENGTH) {
+            throw invalid();
+        }
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (bytes.length < 8 || bytes[0] != VERSION) {
+            throw invalid();
+        }
+        int issuedScope = (bytes[2] & 0xFF) << 24 | (bytes[3] & 0xFF) << 16 | (bytes[4] & 0xFF) << 8 | bytes[5] & 0xFF;
+        if (bytes[1] != kind.ordinal() || issuedScope != scope) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested list.");
+        }
+        VarintReader reader = new VarintReader(bytes, 6);
+        long key = reader.next();
+        long id = reader.next();
+        if (reader.position != bytes.length) {
+            throw invalid();
+        }
+        return new PageCursor(key, id);
+    }
+
+    private static int writeVarint(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+    }
+
+    /**
+     * Reads varints in the exact form {@link #writeVarint} writes them. Padded encodings (a trailing zero
+     * group) and values over 64 bits are rejected, so every cursor has a single valid spelling.
+     */
+    private static final class VarintReader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private VarintReader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private long next() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position == bytes.length) {
+                    throw invalid();
+                }
+                byte b = bytes[position++];
+                long group = b & 0x7F;
+                if (shift == 63 && group > 1) {
+                    throw invalid();
+                }
+                value |= group << shift;
+                if (b >= 0) {
+                    if (b == 0 && shift > 0) {
+                        throw invalid();
+                    }
+                    return value;
+                }
+            }
+            throw invalid();
+        }
+    }
+}
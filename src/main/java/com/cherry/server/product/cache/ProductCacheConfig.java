@@ -0,0 +1,48 @@
+package com.cherry.server.product.cache;
+
+import com.cherry.server.config.RedisChannelListener;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ProductListCacheProperties.class)
+public class ProductCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.product-list.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisChannelListener productCacheInvalidationListener(
+            ProductListCache productListCache,
+            ProductSummaryCache productSummaryCache
+    ) {
+        return new RedisChannelListener(
+                new ChannelTopic(ProductCacheInvalidator.INVALIDATION_CHANNEL),
+                (message, pattern) -> {
+                    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                    if (ProductCacheInvalidator.PRODUCT_LIST_INVALIDATION.equals(body)) {
+                        productListCache.evictNear();
+                    } else if (body.startsWith(ProductCacheInvalidator.PRODUCT_SUMMARY_INVALIDATION_PREFIX)) {
+                        evictSummary(productSummaryCache, body);
+                    } else {
+                        log.debug("Ignoring unknown cache invalidation message {}", body);
+                    }
+                }
+        );
+    }
+
+    private void evictSummary(ProductSummaryCache productSummaryCache, String body) {
+        try {
+            long productId = Long.parseLong(
+                    body.substring(ProductCacheInvalidator.PRODUCT_SUMMARY_INVALIDATION_PREFIX.length())
+            );
+            productSummaryCache.evictNear(productId);
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed cache invalidation message {}", body);
+        }
+    }
+}
@@ -1,33 +1,63 @@
 package com.cherry.server.product.cache;
 
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ProductCacheInvalidator {
 
-    private static final String PRODUCT_LIST_CACHE_PREFIX = "products:list";
+    public static final String PRODUCT_LIST_CACHE_PREFIX = "products:list";
+    public static final String PRODUCT_LIST_VERSION_KEY = PRODUCT_LIST_CACHE_PREFIX + ":version";
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate:products";
+    static final String PRODUCT_LIST_INVALIDATION = "list";
+    static final String PRODUCT_SUMMARY_INVALIDATION_PREFIX = "summary:";
 
     private final StringRedisTemplate redisTemplate;
+    private final ProductListCache productListCache;
+    private final ProductSummaryCache productSummaryCache;
 
+    // Cache keys embed the generation, so one INCR orphans every cached page; old pages age out via TTL.
+    // The local near cache is dropped directly and other nodes are told through pub/sub.
     public void invalidateProductListCache() {
-        deleteKeysByPattern(PRODUCT_LIST_CACHE_PREFIX + ":*");
+        afterCommit(() -> {
+            productListCache.invalidate();
+            publish(PRODUCT_LIST_INVALIDATION);
+        });
     }
 
-    private void deleteKeysByPattern(String pattern) {
-        try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys == null || keys.isEmpty()) {
-                return;
+    // For changes that keep page membership intact (likes, images): only the one item body is dropped.
+    public void invalidateProductSummary(Long productId) {
+        afterCommit(() -> {
+            productSummaryCache.evict(productId);
+            publish(PRODUCT_SUMMARY_INVALIDATION_PREFIX + productId);
+        });
+    }
+
+    // Evicting before commit lets a concurrent reader cache the old row again, so wait for the commit.
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
             }
-            redisTemplate.delete(keys);
+        });
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
         } catch (Exception e) {
-            log.debug("Failed to delete cache keys for pattern {}", pattern, e);
+            log.debug("Failed to publish cache invalidation {}", message, e);
         }
     }
 }
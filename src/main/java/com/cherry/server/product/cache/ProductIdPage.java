@@ -0,0 +1,12 @@
+package com.cherry.server.product.cache;
+
+import java.util.List;
+
+/**
+ * Ordered product ids of one feed page. Item bodies live in {@link ProductSummaryCache}.
+ */
+public record ProductIdPage(
+        List<Long> ids,
+        String nextCursor
+) {
+}
@@ -0,0 +1,148 @@
+package com.cherry.server.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Two-tier cache of feed pages as ordered product ids: a bounded in-process near cache in front of the
+ * versioned Redis cache. Near entries are dropped locally on invalidation and on other nodes through
+ * Redis pub/sub. Item bodies are cached per product in {@link ProductSummaryCache}, so a change to one
+ * product does not have to throw away every page it appears on.
+ */
+@Slf4j
+@Component
+public class ProductListCache {
+
+    private static final String NEAR_CACHE_NAME = "productList.near";
+    private static final String REDIS_CACHE_NAME = "productList.redis";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductListCacheProperties properties;
+    private final Cache<String, ProductIdPage> nearCache;
+    // Bumped on every near eviction so a load that started before it cannot repopulate stale data.
+    private final AtomicLong nearEpoch = new AtomicLong();
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisEvictions;
+
+    public ProductListCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            ProductListCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nearCache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.nearMaxSize())
+                        .expireAfterWrite(properties.nearTtl())
+                        .recordStats()
+                        .<String, ProductIdPage>build(),
+                NEAR_CACHE_NAME
+        );
+        this.redisHits = redisCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.redisMisses = redisCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.redisEvictions = redisCounter(meterRegistry, "cache.evictions");
+    }
+
+    public ProductIdPage getOrLoad(String key, Supplier<ProductIdPage> loader) {
+        ProductIdPage near = nearCache.getIfPresent(key);
+        if (near != null) {
+            return near;
+        }
+
+        long epoch = nearEpoch.get();
+        String redisKey = redisKey(key);
+        ProductIdPage page = readRedis(redisKey);
+        if (page == null) {
+            page = loader.get();
+            writeRedis(redisKey, page);
+        }
+        if (nearEpoch.get() == epoch) {
+            nearCache.put(key, page);
+        }
+        return page;
+    }
+
+    public void invalidate() {
+        evictNear();
+        try {
+            redisTemplate.opsForValue().increment(ProductCacheInvalidator.PRODUCT_LIST_VERSION_KEY);
+            redisEvictions.increment();
+        } catch (Exception e) {
+            log.debug("Failed to bump product list cache version", e);
+        }
+    }
+
+    public void evictNear() {
+        nearEpoch.incrementAndGet();
+        nearCache.invalidateAll();
+    }
+
+    // Returns null when the generation cannot be read so the Redis tier is skipped instead of
+    // reading a possibly stale generation.
+    private String redisKey(String key) {
+        try {
+            String version = redisTemplate.opsForValue().get(ProductCacheInvalidator.PRODUCT_LIST_VERSION_KEY);
+            return String.join(":",
+                    ProductCacheInvalidator.PRODUCT_LIST_CACHE_PREFIX,
+                    "v" + (version == null ? "0" : version),
+                    key
+            );
+        } catch (Exception e) {
+            log.debug("Failed to read product list cache version", e);
+            return null;
+        }
+    }
+
+    private ProductIdPage readRedis(String redisKey) {
+        if (redisKey == null) {
+            return null;
+        }
+        try {
+            String cachedValue = redisTemplate.opsForValue().get(redisKey);
+            if (cachedValue == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(cachedValue, ProductIdPage.class);
+        } catch (Exception e) {
+            log.debug("Failed to read product list cache", e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String redisKey, ProductIdPage page) {
+        if (redisKey == null) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(page);
+            redisTemplate.opsForValue().set(redisKey, payload, properties.redisTtl().toSeconds(), TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.debug("Failed to write product list cache", e);
+        }
+    }
+
+    private static Counter redisCounter(MeterRegistry meterRegistry, String name, String... tags) {
+        return Counter.builder(name)
+                .tag("cache", REDIS_CACHE_NAME)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.cherry.server.product.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "cache.product-list")
+public record ProductListCacheProperties(
+        @DefaultValue("1000") long nearMaxSize,
+        @DefaultValue("5s") Duration nearTtl,
+        @DefaultValue("300s") Duration redisTtl,
+        @DefaultValue("10000") long summaryNearMaxSize,
+        @DefaultValue("600s") Duration summaryTtl,
+        @DefaultValue("true") boolean pubsubEnabled
+) {
+}
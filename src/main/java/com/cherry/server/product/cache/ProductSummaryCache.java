@@ -0,0 +1,270 @@
+package com.cherry.server.product.cache;
+
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-product cache of rendered feed items ({@code isLiked=false}), shared by every page the product
+ * appears on. Near misses are hydrated with a single MGET; whatever Redis does not have is loaded in
+ * one batch and written back by one script.
+ * <p>
+ * A load that read the row before a change committed must not write it back after the eviction that
+ * follows the commit. Every eviction takes the next value of a global generation counter and stamps it on
+ * the product; a loader reads the counter before it queries, and the write-back skips any product stamped
+ * with a later generation.
+ */
+@Slf4j
+@Component
+public class ProductSummaryCache {
+
+    public static final String PRODUCT_SUMMARY_CACHE_PREFIX = "products:summary:";
+    static final String GENERATION_KEY = "products:summary-generation";
+    static final String EVICTED_AT_PREFIX = "products:summary-evicted:";
+    private static final String NEAR_CACHE_NAME = "productSummary.near";
+    private static final String REDIS_CACHE_NAME = "productSummary.redis";
+
+    // KEYS: summary key, evicted-at key, ... ARGV: loader generation, ttl millis, one JSON per product.
+    private static final RedisScript<Long> WRITE_SCRIPT = RedisScript.of("""
+            local generation = tonumber(ARGV[1])
+            local written = 0
+            for i = 1, #KEYS, 2 do
+                if tonumber(redis.call('GET', KEYS[i + 1]) or '0') <= generation then
+                    redis.call('SET', KEYS[i], ARGV[2 + (i + 1) / 2], 'PX', ARGV[2])
+                    written = written + 1
+                end
+            end
+            return written
+            """, Long.class);
+
+    // KEYS: generation, evicted-at key, summary key. ARGV: ttl millis.
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('SET', KEYS[2], generation, 'PX', ARGV[1])
+            return redis.call('DEL', KEYS[3])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductListCacheProperties properties;
+    private final Cache<Long, RenderedProductSummary> nearCache;
+    // Same guard as the page cache: a hydration that started before an eviction must not refill it.
+    private final AtomicLong nearEpoch = new AtomicLong();
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisEvictions;
+
+    public ProductSummaryCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            ProductListCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nearCache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.summaryNearMaxSize())
+                        .expireAfterWrite(properties.nearTtl())
+                        .recordStats()
+                        .<Long, RenderedProductSummary>build(),
+                NEAR_CACHE_NAME
+        );
+        this.redisHits = redisCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.redisMisses = redisCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.redisEvictions = redisCounter(meterRegistry, "cache.evictions");
+    }
+
+    /**
+     * Returns the rendered items in the order of {@code ids}. Ids the loader cannot find (deleted products)
+     * are left out.
+     */
+    public List<RenderedProductSummary> getAll(
+            List<Long> ids,
+            Function<List<Long>, List<ProductSummaryResponse>> loader
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RenderedProductSummary> found = new HashMap<>(nearCache.getAllPresent(ids));
+        if (found.size() < ids.size()) {
+            long epoch = nearEpoch.get();
+            List<Long> missing = ids.stream()
+                    .filter(id -> !found.containsKey(id))
+                    .distinct()
+                    .toList();
+            Map<Long, RenderedProductSummary> fromRedis = readRedis(missing);
+            List<Long> toLoad = missing.stream()
+                    .filter(id -> !fromRedis.containsKey(id))
+                    .toList();
+            Map<Long, RenderedProductSummary> loaded = Map.of();
+            if (!toLoad.isEmpty()) {
+                long generation = redisGeneration();
+                loaded = render(loader.apply(toLoad));
+                writeRedis(loaded.values(), generation);
+            }
+
+            found.putAll(fromRedis);
+            found.putAll(loaded);
+            if (nearEpoch.get() == epoch) {
+                nearCache.putAll(fromRedis);
+                nearCache.putAll(loaded);
+            }
+        }
+
+        List<RenderedProductSummary> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            RenderedProductSummary item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    /** Taken before querying the rows later passed to {@link #putAll}. */
+    public Generation generation() {
+        return new Generation(nearEpoch.get(), redisGeneration());
+    }
+
+    // Write-through for summaries that were just built from the database, e.g. while loading a page.
+    public void putAll(List<ProductSummaryResponse> summaries, Generation generation) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, RenderedProductSummary> rendered = render(summaries);
+        writeRedis(rendered.values(), generation.redis());
+        if (nearEpoch.get() == generation.near()) {
+            nearCache.putAll(rendered);
+        }
+    }
+
+    public void evict(Long productId) {
+        evictNear(productId);
+        try {
+            redisTemplate.execute(
+                    EVICT_SCRIPT,
+                    List.of(GENERATION_KEY, EVICTED_AT_PREFIX + productId, redisKey(productId)),
+                    Long.toString(properties.summaryTtl().toMillis())
+            );
+            redisEvictions.increment();
+        } catch (Exception e) {
+            log.debug("Failed to evict product summary cache {}", productId, e);
+        }
+    }
+
+    public void evictNear(Long productId) {
+        nearEpoch.incrementAndGet();
+        nearCache.invalidate(productId);
+    }
+
+    static String redisKey(Long productId) {
+        return PRODUCT_SUMMARY_CACHE_PREFIX + productId;
+    }
+
+    private Map<Long, RenderedProductSummary> render(List<ProductSummaryResponse> summaries) {
+        Map<Long, RenderedProductSummary> rendered = new LinkedHashMap<>();
+        try {
+            for (ProductSummaryResponse summary : summaries) {
+                rendered.put(summary.id(), RenderedProductSummary.of(
+                        objectMapper.writeValueAsBytes(summary),
+                        objectMapper.getFactory()
+                ));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to render product summary", e);
+        }
+        return rendered;
+    }
+
+    private Map<Long, RenderedProductSummary> readRedis(List<Long> ids) {
+        Map<Long, RenderedProductSummary> found = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    ids.stream().map(ProductSummaryCache::redisKey).toList()
+            );
+            if (values == null || values.size() != ids.size()) {
+                redisMisses.increment(ids.size());
+                return found;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values.get(i);
+                if (value == null) {
+                    continue;
+                }
+                found.put(ids.get(i), RenderedProductSummary.of(
+                        value.getBytes(StandardCharsets.UTF_8),
+                        objectMapper.getFactory()
+                ));
+            }
+            redisHits.increment(found.size());
+            redisMisses.increment(ids.size() - found.size());
+        } catch (Exception e) {
+            log.debug("Failed to read product summary cache", e);
+        }
+        return found;
+    }
+
+    // -1 when the counter cannot be read, which skips the write-back.
+    private long redisGeneration() {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (Exception e) {
+            log.debug("Failed to read product summary generation", e);
+            return -1;
+        }
+    }
+
+    private void writeRedis(Collection<RenderedProductSummary> summaries, long generation) {
+        if (summaries.isEmpty() || generation < 0) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(summaries.size() * 2);
+        List<String> args = new ArrayList<>(summaries.size() + 2);
+        args.add(Long.toString(generation));
+        args.add(Long.toString(properties.summaryTtl().toMillis()));
+        for (RenderedProductSummary summary : summaries) {
+            keys.add(redisKey(summary.productId()));
+            keys.add(EVICTED_AT_PREFIX + summary.productId());
+            args.add(new String(summary.json(), StandardCharsets.UTF_8));
+        }
+        try {
+            redisTemplate.execute(WRITE_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.debug("Failed to write product summary cache", e);
+        }
+    }
+
+    private static Counter redisCounter(MeterRegistry meterRegistry, String name, String... tags) {
+        return Counter.builder(name)
+                .tag("cache", REDIS_CACHE_NAME)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /** Near-cache epoch and Redis eviction generation observed before a load. */
+    public record Generation(long near, long redis) {
+    }
+}
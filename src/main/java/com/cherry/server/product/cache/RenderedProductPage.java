@@ -0,0 +1,145 @@
+package com.cherry.server.product.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A feed page kept as the exact JSON bytes written to the client. Besides the bytes it remembers the
+ * item ids and the byte offset of every {@code "isLiked":false} literal, so per-user flags can be patched
+ * in place ({@code false} becomes {@code true } - same length, still valid JSON) without an object round trip.
+ * The byte array may be shared between requests and must never be modified.
+ */
+public final class RenderedProductPage {
+
+    private static final byte[] LIKED_LITERAL = "true ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ITEMS_OPEN = "{\"items\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEXT_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] json;
+    private final long[] productIds;
+    private final int[] likedFlagOffsets;
+
+    private RenderedProductPage(byte[] json, long[] productIds, int[] likedFlagOffsets) {
+        this.json = json;
+        this.productIds = productIds;
+        this.likedFlagOffsets = likedFlagOffsets;
+    }
+
+    /**
+     * Concatenates pre-rendered items into the same bytes Jackson would produce for a
+     * {@code ProductListResponse}, without going through the object model.
+     */
+    public static RenderedProductPage assemble(List<RenderedProductSummary> items, String nextCursor) {
+        byte[] cursor = nextCursor == null
+                ? NULL_LITERAL
+                : quote(JsonStringEncoder.getInstance().quoteAsUTF8(nextCursor));
+
+        int length = ITEMS_OPEN.length + NEXT_CURSOR.length + cursor.length + 1 + Math.max(items.size() - 1, 0);
+        for (RenderedProductSummary item : items) {
+            length += item.json().length;
+        }
+
+        byte[] json = new byte[length];
+        long[] productIds = new long[items.size()];
+        int[] likedFlagOffsets = new int[items.size()];
+        int position = append(json, 0, ITEMS_OPEN);
+        for (int i = 0; i < items.size(); i++) {
+            RenderedProductSummary item = items.get(i);
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            productIds[i] = item.productId();
+            likedFlagOffsets[i] = position + item.likedFlagOffset();
+            position = append(json, position, item.json());
+        }
+        position = append(json, position, NEXT_CURSOR);
+        position = append(json, position, cursor);
+        json[position] = '}';
+        return new RenderedProductPage(json, productIds, likedFlagOffsets);
+    }
+
+    /**
+     * Indexes an already serialized {@code ProductListResponse}. Every item must carry {@code isLiked=false}.
+     */
+    public static RenderedProductPage of(byte[] json, JsonFactory jsonFactory) throws IOException {
+        long[] ids = new long[32];
+        int[] offsets = new int[32];
+        int count = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Product page must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"items".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+                    long[] item = RenderedProductSummary.readItem(parser);
+                    ids[count] = item[0];
+                    offsets[count] = (int) item[1];
+                    count++;
+                }
+            }
+        }
+        return new RenderedProductPage(json, Arrays.copyOf(ids, count), Arrays.copyOf(offsets, count));
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public boolean isEmpty() {
+        return productIds.length == 0;
+    }
+
+    public List<Long> productIds() {
+        return Arrays.stream(productIds).boxed().toList();
+    }
+
+    /**
+     * Returns the page with {@code isLiked=true} for the given products. Copies the bytes only when
+     * at least one item has to change.
+     */
+    public byte[] withLikedFlags(Set<Long> likedProductIds) {
+        byte[] patched = json;
+        for (int i = 0; i < productIds.length; i++) {
+            if (!likedProductIds.contains(productIds[i])) {
+                continue;
+            }
+            if (patched == json) {
+                patched = json.clone();
+            }
+            System.arraycopy(LIKED_LITERAL, 0, patched, likedFlagOffsets[i], LIKED_LITERAL.length);
+        }
+        return patched;
+    }
+
+    private static byte[] quote(byte[] escaped) {
+        byte[] quoted = new byte[escaped.length + 2];
+        quoted[0] = '"';
+        System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private static int append(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+}
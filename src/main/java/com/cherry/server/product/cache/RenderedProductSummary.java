@@ -0,0 +1,72 @@
+package com.cherry.server.product.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * One feed item kept as its JSON bytes (always rendered with {@code isLiked=false}) plus the byte offset
+ * of that literal inside the fragment. The byte array is shared and must never be modified.
+ */
+public final class RenderedProductSummary {
+
+    private final long productId;
+    private final byte[] json;
+    private final int likedFlagOffset;
+
+    private RenderedProductSummary(long productId, byte[] json, int likedFlagOffset) {
+        this.productId = productId;
+        this.json = json;
+        this.likedFlagOffset = likedFlagOffset;
+    }
+
+    public static RenderedProductSummary of(byte[] json, JsonFactory jsonFactory) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Product summary must be a JSON object");
+            }
+            long[] item = readItem(parser);
+            return new RenderedProductSummary(item[0], json, (int) item[1]);
+        }
+    }
+
+    /**
+     * Reads one item object whose START_OBJECT was just consumed and returns {@code {id, isLiked offset}}
+     * with the offset relative to the parser input.
+     */
+    static long[] readItem(JsonParser parser) throws IOException {
+        long id = -1;
+        long offset = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                id = parser.getLongValue();
+            } else if ("isLiked".equals(field)) {
+                if (value != JsonToken.VALUE_FALSE) {
+                    throw new IOException("Shared product summary must not be liked");
+                }
+                offset = parser.currentTokenLocation().getByteOffset();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (id < 0 || offset < 0) {
+            throw new IOException("Product summary is missing id or isLiked");
+        }
+        return new long[]{id, offset};
+    }
+
+    public long productId() {
+        return productId;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    int likedFlagOffset() {
+        return likedFlagOffset;
+    }
+}
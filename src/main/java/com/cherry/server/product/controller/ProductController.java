@@ -6,14 +6,17 @@ import com.cherry.server.product.dto.ProductDetailResponse;
 import com.cherry.server.product.dto.ProductListResponse;
 import com.cherry.server.product.dto.ProductSearchCondition;
 import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.TagMatch;
 import com.cherry.server.product.domain.ProductStatus;
 import com.cherry.server.product.domain.TradeType;
 import com.cherry.server.product.service.ProductService;
 import com.cherry.server.security.UserPrincipal;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -26,10 +29,13 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final int MAX_FILTER_TAGS = 10;
+
     private final ProductService productService;
 
+    // Written straight from the pre-rendered cache bytes instead of going through the JSON converter.
     @GetMapping
-    public ResponseEntity<ProductListResponse> getProducts(
+    public ResponseEntity<byte[]> getProducts(
             @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam(required = false) String cursor,
             @RequestParam(required = false) ProductStatus status,
@@ -37,21 +43,50 @@ public class ProductController {
             @RequestParam(required = false) Integer minPrice,
             @RequestParam(required = false) Integer maxPrice,
             @RequestParam(required = false) TradeType tradeType,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
             @RequestParam(defaultValue = "LATEST") ProductSortBy sortBy,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit
     ) {
-        if (minPrice != null && minPrice < 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice must be >= 0");
-        }
-        if (maxPrice != null && maxPrice < 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxPrice must be >= 0");
-        }
-        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice must be <= maxPrice");
+        validatePriceRange(minPrice, maxPrice);
+        validateTags(tags);
+        Long userId = principal == null ? null : principal.id();
+        ProductSearchCondition condition = new ProductSearchCondition(
+                status, categoryCode, minPrice, maxPrice, tradeType, sortBy, tags, tagMatch
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.getProductsJson(cursor, limit, userId, condition, sortBy));
+    }
+
+    // Keyword search over title, description and tags with the same filters, sorts and cursors as the feed.
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> searchProducts(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) String categoryCode,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) TradeType tradeType,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
+            @RequestParam(defaultValue = "LATEST") ProductSortBy sortBy,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit
+    ) {
+        if (q.isBlank() || q.length() > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must be 1 to 100 characters");
         }
+        validatePriceRange(minPrice, maxPrice);
+        validateTags(tags);
         Long userId = principal == null ? null : principal.id();
-        ProductSearchCondition condition = new ProductSearchCondition(status, categoryCode, minPrice, maxPrice, tradeType, sortBy);
-        return ResponseEntity.ok(productService.getProducts(cursor, limit, userId, condition, sortBy));
+        ProductSearchCondition condition = new ProductSearchCondition(
+                status, categoryCode, minPrice, maxPrice, tradeType, sortBy, tags, tagMatch
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.searchProductsJson(q, cursor, limit, userId, condition, sortBy));
     }
 
     @GetMapping("/my")
@@ -76,11 +111,13 @@ public class ProductController {
     }
 
     @GetMapping("/trending")
-    public ResponseEntity<ProductListResponse> getTrending(
+    public ResponseEntity<byte[]> getTrending(
             @AuthenticationPrincipal UserPrincipal principal
     ) {
         Long userId = principal == null ? null : principal.id();
-        return ResponseEntity.ok(productService.getTrending(userId));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.getTrendingJson(userId));
     }
 
     @PostMapping
@@ -101,4 +138,22 @@ public class ProductController {
         productService.getProduct(productId, null); // Reuse logic
         return ResponseEntity.noContent().build();
     }
+
+    private void validateTags(List<String> tags) {
+        if (tags != null && tags.size() > MAX_FILTER_TAGS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "at most " + MAX_FILTER_TAGS + " tags");
+        }
+    }
+
+    private void validatePriceRange(Integer minPrice, Integer maxPrice) {
+        if (minPrice != null && minPrice < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice must be >= 0");
+        }
+        if (maxPrice != null && maxPrice < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxPrice must be >= 0");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice must be <= maxPrice");
+        }
+    }
 }
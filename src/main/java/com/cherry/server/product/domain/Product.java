@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +15,21 @@ import java.util.List;
 @Entity
 @EntityListeners(ProductEntityListener.class)
 @Getter
-@Table(name = "products")
+// Feed indexes, one per ProductSortBy order and equality prefix (see V4 and ProductFeedExplainTest).
+// The default feed (status != PENDING) walks the sort-only indexes since two status ranges cannot give order.
+@Table(
+        name = "products",
+        // trade_type is left unindexed: its filter matches most rows and is checked while walking these.
+        indexes = {
+                @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_products_status_created_at_id", columnList = "status, created_at, id"),
+                @Index(name = "idx_products_category_created_at_id", columnList = "category_id, created_at, id"),
+                @Index(name = "idx_products_seller_created_at_id", columnList = "seller_user_id, created_at, id"),
+                @Index(name = "idx_products_price_id", columnList = "price, id"),
+                @Index(name = "idx_products_status_price_id", columnList = "status, price, id"),
+                @Index(name = "idx_products_category_price_id", columnList = "category_id, price, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseTimeEntity {
 
@@ -44,6 +59,17 @@ public class Product extends BaseTimeEntity {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // Denormalized count of product_likes rows. Only changed through ProductRepository's atomic
+    // increment/decrement and repaired by LikeCountReconciler; never set from the entity.
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    // Feed thumbnail copied from the product's thumbnail image, so list pages never read product_images.
+    // Written on insert and afterwards only through ProductRepository.updateThumbnailUrl.
+    @Column(name = "thumbnail_url", length = 500, updatable = false)
+    private String thumbnailUrl;
+
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY)
     private List<ProductImage> images = new ArrayList<>();
 
@@ -51,7 +77,7 @@ public class Product extends BaseTimeEntity {
     private List<ProductTag> productTags = new ArrayList<>();
 
     @Builder
-    public Product(User seller, String title, String description, int price, ProductStatus status, TradeType tradeType, Category category) {
+    public Product(User seller, String title, String description, int price, ProductStatus status, TradeType tradeType, Category category, String thumbnailUrl) {
         this.seller = seller;
         this.title = title;
         this.description = description;
@@ -59,6 +85,7 @@ public class Product extends BaseTimeEntity {
         this.status = status;
         this.tradeType = tradeType;
         this.category = category;
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     public void activate() {
@@ -2,6 +2,7 @@ package com.cherry.server.product.domain;
 
 import com.cherry.server.global.common.SpringContext;
 import com.cherry.server.product.cache.ProductCacheInvalidator;
+import com.cherry.server.product.search.ProductSearchIndexer;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
@@ -11,15 +12,22 @@ public class ProductEntityListener {
     @PostPersist
     public void onPostPersist(Product product) {
         SpringContext.getBean(ProductCacheInvalidator.class).invalidateProductListCache();
+        SpringContext.getBean(ProductSearchIndexer.class).reindexAfterCommit(product.getId());
     }
 
     @PostUpdate
     public void onPostUpdate(Product product) {
-        SpringContext.getBean(ProductCacheInvalidator.class).invalidateProductListCache();
+        ProductCacheInvalidator invalidator = SpringContext.getBean(ProductCacheInvalidator.class);
+        invalidator.invalidateProductSummary(product.getId());
+        invalidator.invalidateProductListCache();
+        SpringContext.getBean(ProductSearchIndexer.class).reindexAfterCommit(product.getId());
     }
 
     @PostRemove
     public void onPostRemove(Product product) {
-        SpringContext.getBean(ProductCacheInvalidator.class).invalidateProductListCache();
+        ProductCacheInvalidator invalidator = SpringContext.getBean(ProductCacheInvalidator.class);
+        invalidator.invalidateProductSummary(product.getId());
+        invalidator.invalidateProductListCache();
+        SpringContext.getBean(ProductSearchIndexer.class).reindexAfterCommit(product.getId());
     }
 }
@@ -74,6 +74,14 @@ public class ProductImage extends BaseTimeEntity {
         this.thumbnailUrl = thumbnailUrl;
     }
 
+    // URL shown in lists: the thumbnail once processed, before that the detail image or the original upload.
+    public String listThumbnailUrl() {
+        if (this.thumbnailUrl != null) {
+            return this.thumbnailUrl;
+        }
+        return this.imageUrl != null ? this.imageUrl : this.originalUrl;
+    }
+
     public boolean isProcessed() {
         return this.imageUrl != null;
     }
@@ -2,6 +2,7 @@ package com.cherry.server.product.dto;
 
 import com.cherry.server.product.domain.ProductStatus;
 import com.cherry.server.product.domain.TradeType;
+import java.util.List;
 
 public record ProductSearchCondition(
         ProductStatus status,
@@ -9,6 +10,32 @@ public record ProductSearchCondition(
         Integer minPrice,
         Integer maxPrice,
         TradeType tradeType,
-        ProductSortBy sortBy
+        ProductSortBy sortBy,
+        List<String> tags,
+        TagMatch tagMatch
 ) {
+
+    public ProductSearchCondition {
+        tags = tags == null ? List.of() : tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        tagMatch = tagMatch == null ? TagMatch.ALL : tagMatch;
+    }
+
+    public ProductSearchCondition(
+            ProductStatus status,
+            String categoryCode,
+            Integer minPrice,
+            Integer maxPrice,
+            TradeType tradeType,
+            ProductSortBy sortBy
+    ) {
+        this(status, categoryCode, minPrice, maxPrice, tradeType, sortBy, List.of(), TagMatch.ALL);
+    }
+
+    public boolean hasTags() {
+        return !tags.isEmpty();
+    }
 }
@@ -15,7 +15,7 @@ public record ProductSummaryResponse(
         int price,
         ProductStatus status,
         TradeType tradeType,
-        String thumbnailUrl, // TODO: Image implementation
+        String thumbnailUrl,
         CategoryResponse category,
         ProductDetailResponse.SellerResponse seller,
         LocalDateTime createdAt,
@@ -23,18 +23,26 @@ public record ProductSummaryResponse(
         boolean isLiked,
         long likeCount
 ) {
-    public static ProductSummaryResponse from(Product product) {
-        return from(product, false, 0L, List.of());
-    }
-
-    public static ProductSummaryResponse from(Product product, boolean isLiked) {
-        return from(product, isLiked, 0L, List.of());
-    }
-
-    public static ProductSummaryResponse from(Product product, boolean isLiked, long likeCount) {
-        return from(product, isLiked, likeCount, List.of());
+    public static ProductSummaryResponse from(ProductSummaryRow row, boolean isLiked, List<String> tags) {
+        return ProductSummaryResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .price(row.price())
+                .status(row.status())
+                .tradeType(row.tradeType())
+                .thumbnailUrl(row.thumbnailUrl())
+                .category(row.categoryId() == null
+                        ? null
+                        : new CategoryResponse(row.categoryId(), row.categoryCode(), row.categoryName()))
+                .seller(new ProductDetailResponse.SellerResponse(row.sellerId(), row.sellerNickname()))
+                .createdAt(row.createdAt())
+                .tags(tags)
+                .isLiked(isLiked)
+                .likeCount(row.likeCount())
+                .build();
     }
 
+    // The thumbnail comes from products.thumbnail_url, so product.images is never initialized here.
     public static ProductSummaryResponse from(Product product, boolean isLiked, long likeCount, List<String> tags) {
         return ProductSummaryResponse.builder()
                 .id(product.getId())
@@ -42,13 +50,7 @@ public record ProductSummaryResponse(
                 .price(product.getPrice())
                 .status(product.getStatus())
                 .tradeType(product.getTradeType())
-                .thumbnailUrl(product.getImages().stream()
-                        .filter(img -> img.isThumbnail())
-                        .findFirst()
-                        .map(img -> img.getThumbnailUrl() != null
-                                ? img.getThumbnailUrl()
-                                : (img.getImageUrl() != null ? img.getImageUrl() : img.getOriginalUrl()))
-                        .orElse(null))
+                .thumbnailUrl(product.getThumbnailUrl())
                 .category(CategoryResponse.from(product.getCategory()))
                 .seller(new ProductDetailResponse.SellerResponse(
                         product.getSeller().getId(),
@@ -0,0 +1,26 @@
+package com.cherry.server.product.dto;
+
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the columns a feed item needs. Selected with a constructor expression, so list
+ * queries never load {@code description} or put Product entities into the persistence context.
+ */
+public record ProductSummaryRow(
+        Long id,
+        String title,
+        int price,
+        ProductStatus status,
+        TradeType tradeType,
+        LocalDateTime createdAt,
+        Long categoryId,
+        String categoryCode,
+        String categoryName,
+        Long sellerId,
+        String sellerNickname,
+        String thumbnailUrl,
+        long likeCount
+) {
+}
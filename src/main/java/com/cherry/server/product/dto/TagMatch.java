@@ -0,0 +1,6 @@
+package com.cherry.server.product.dto;
+
+public enum TagMatch {
+    ALL,
+    ANY
+}
@@ -0,0 +1,59 @@
+package com.cherry.server.product.repository;
+
+import com.cherry.server.product.domain.ProductImage;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts a new product's images and tag links as JDBC batches. The entities use IDENTITY ids, which turns
+ * Hibernate batching off and makes saveAll one round trip per row; nothing reads these rows back in the
+ * creating transaction, so they are written without going through the persistence context. With
+ * rewriteBatchedStatements on the MySQL driver sends each batch as a single multi-row INSERT.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductChildRowWriter {
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO product_images (product_id, image_url, original_url, thumbnail_url, image_order, " +
+                    "is_thumbnail, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_TAG_SQL =
+            "INSERT INTO product_tags (product_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Images are built with ProductImage.builder() but never persisted; only their column values are used.
+    public void insertImages(Long productId, List<ProductImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images.stream()
+                .map(image -> new Object[]{
+                        productId,
+                        image.getImageUrl(),
+                        image.getOriginalUrl(),
+                        image.getThumbnailUrl(),
+                        image.getImageOrder(),
+                        image.isThumbnail(),
+                        now,
+                        now
+                })
+                .toList());
+    }
+
+    public void insertTags(Long productId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_TAG_SQL, tagIds.stream()
+                .map(tagId -> new Object[]{productId, tagId, now, now})
+                .toList());
+    }
+}
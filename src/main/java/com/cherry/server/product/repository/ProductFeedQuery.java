@@ -0,0 +1,134 @@
+package com.cherry.server.product.repository;
+
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Native keyset query for one feed page. The cursor is a row-value comparison on exactly the ORDER BY
+ * columns, and both columns of every order run in the same direction, so each {@link ProductSortBy} is a
+ * single range seek on its {@code (..., sort column, id)} index no matter how deep the page is.
+ */
+public final class ProductFeedQuery {
+
+    private static final String SELECT = "SELECT p.id, p.title, p.price, p.status, p.trade_type, p.created_at, " +
+            "c.id AS category_id, c.code AS category_code, c.display_name AS category_name, " +
+            "u.id AS seller_id, u.nickname AS seller_nickname, p.thumbnail_url, p.like_count " +
+            "FROM products p " +
+            "LEFT JOIN categories c ON c.id = p.category_id " +
+            "LEFT JOIN users u ON u.id = p.seller_user_id";
+
+    private final String sql;
+    private final MapSqlParameterSource params;
+
+    private ProductFeedQuery(String sql, MapSqlParameterSource params) {
+        this.sql = sql;
+        this.params = params;
+    }
+
+    /**
+     * Builds the query for a page after the given cursor ({@code null} values for the first page).
+     * Selects {@code limit} rows; callers ask for one more than the page size to detect a next page.
+     */
+    public static ProductFeedQuery of(
+            ProductSearchCondition condition,
+            ProductSortBy sortBy,
+            LocalDateTime cursorCreatedAt,
+            Integer cursorPrice,
+            Long cursorId,
+            int limit
+    ) {
+        List<String> predicates = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (condition.status() != null) {
+            predicates.add("p.status = :status");
+            params.addValue("status", condition.status().name());
+        } else {
+            predicates.add("p.status <> :excludedStatus");
+            params.addValue("excludedStatus", ProductStatus.PENDING.name());
+        }
+
+        if (condition.tradeType() != null) {
+            predicates.add("p.trade_type IN (:tradeTypes)");
+            params.addValue("tradeTypes", tradeTypes(condition.tradeType()));
+        }
+
+        if (condition.categoryCode() != null) {
+            predicates.add("c.code = :categoryCode");
+            params.addValue("categoryCode", condition.categoryCode());
+        }
+
+        if (condition.minPrice() != null) {
+            predicates.add("p.price >= :minPrice");
+            params.addValue("minPrice", condition.minPrice());
+        }
+
+        if (condition.maxPrice() != null) {
+            predicates.add("p.price <= :maxPrice");
+            params.addValue("maxPrice", condition.maxPrice());
+        }
+
+        if (cursorId != null) {
+            switch (sortBy) {
+                case LATEST -> {
+                    if (cursorCreatedAt != null) {
+                        predicates.add("(p.created_at, p.id) < (:cursorCreatedAt, :cursorId)");
+                        params.addValue("cursorCreatedAt", cursorCreatedAt);
+                        params.addValue("cursorId", cursorId);
+                    }
+                }
+                case LOW_PRICE -> {
+                    if (cursorPrice != null) {
+                        predicates.add("(p.price, p.id) > (:cursorPrice, :cursorId)");
+                        params.addValue("cursorPrice", cursorPrice);
+                        params.addValue("cursorId", cursorId);
+                    }
+                }
+                case HIGH_PRICE -> {
+                    if (cursorPrice != null) {
+                        predicates.add("(p.price, p.id) < (:cursorPrice, :cursorId)");
+                        params.addValue("cursorPrice", cursorPrice);
+                        params.addValue("cursorId", cursorId);
+                    }
+                }
+            }
+        }
+
+        params.addValue("limit", limit);
+        String sql = SELECT +
+                " WHERE " + String.join(" AND ", predicates) +
+                " ORDER BY " + orderBy(sortBy) +
+                " LIMIT :limit";
+        return new ProductFeedQuery(sql, params);
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public MapSqlParameterSource params() {
+        return params;
+    }
+
+    private static String orderBy(ProductSortBy sortBy) {
+        return switch (sortBy) {
+            case LATEST -> "p.created_at DESC, p.id DESC";
+            case LOW_PRICE -> "p.price ASC, p.id ASC";
+            case HIGH_PRICE -> "p.price DESC, p.id DESC";
+        };
+    }
+
+    private static List<String> tradeTypes(TradeType tradeType) {
+        return switch (tradeType) {
+            case BOTH -> List.of(TradeType.BOTH.name());
+            case DIRECT -> List.of(TradeType.DIRECT.name(), TradeType.BOTH.name());
+            case DELIVERY -> List.of(TradeType.DELIVERY.name(), TradeType.BOTH.name());
+        };
+    }
+}
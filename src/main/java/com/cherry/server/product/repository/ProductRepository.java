@@ -1,16 +1,21 @@
 package com.cherry.server.product.repository;
 
 import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.dto.ProductSummaryRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
+    @EntityGraph(attributePaths = {"seller", "category"})
     Slice<Product> findBySellerIdOrderByCreatedAtDescIdDesc(Long sellerId, Pageable pageable);
 
     @Query("SELECT p FROM Product p " +
@@ -34,9 +39,48 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
                                    @Param("cursorId") Long cursorId,
                                    Pageable pageable);
 
-    @Query("SELECT p FROM Product p " +
-           "LEFT JOIN FETCH p.seller s " +
-           "LEFT JOIN FETCH p.category c " +
+    @Query("SELECT new com.cherry.server.product.dto.ProductSummaryRow(" +
+           "p.id, p.title, p.price, p.status, p.tradeType, p.createdAt, " +
+           "c.id, c.code, c.displayName, s.id, s.nickname, p.thumbnailUrl, p.likeCount) " +
+           "FROM Product p " +
+           "LEFT JOIN p.seller s " +
+           "LEFT JOIN p.category c " +
            "WHERE p.id IN :ids")
-    java.util.List<Product> findAllByIdInWithSellerAndCategory(@Param("ids") java.util.List<Long> ids);
+    List<ProductSummaryRow> findSummaryRowsByIdIn(@Param("ids") List<Long> ids);
+
+    // Bulk updates: atomic in the database and they bypass the entity listener, so a like does not
+    // count as a product change for cache invalidation.
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount + 1 WHERE p.id = :productId")
+    int incrementLikeCount(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount - 1 WHERE p.id = :productId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("productId") Long productId);
+
+    // Recomputes like_count from product_likes for one id range; returns how many rows had drifted.
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = " +
+           "(SELECT COUNT(pl) FROM ProductLike pl WHERE pl.product.id = p.id) " +
+           "WHERE p.id BETWEEN :fromId AND :toId " +
+           "AND p.likeCount <> (SELECT COUNT(pl) FROM ProductLike pl WHERE pl.product.id = p.id)")
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.thumbnailUrl = :thumbnailUrl WHERE p.id = :productId")
+    int updateThumbnailUrl(@Param("productId") Long productId, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // Same fallback as ProductImage.listThumbnailUrl, applied to rows that predate the column.
+    @Modifying
+    @Query(value = "UPDATE products p SET thumbnail_url = (" +
+                   "SELECT COALESCE(pi.thumbnail_url, pi.image_url, pi.original_url) FROM product_images pi " +
+                   "WHERE pi.product_id = p.id AND pi.is_thumbnail = TRUE " +
+                   "ORDER BY pi.image_order LIMIT 1) " +
+                   "WHERE p.id BETWEEN :fromId AND :toId AND p.thumbnail_url IS NULL " +
+                   "AND EXISTS (SELECT 1 FROM product_images pt WHERE pt.product_id = p.id AND pt.is_thumbnail = TRUE)",
+           nativeQuery = true)
+    int backfillThumbnailUrls(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Product p")
+    long findMaxId();
 }
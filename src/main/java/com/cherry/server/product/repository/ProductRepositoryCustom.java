@@ -1,14 +1,15 @@
 package com.cherry.server.product.repository;
 
-import com.cherry.server.product.domain.Product;
 import com.cherry.server.product.dto.ProductSearchCondition;
 import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryRow;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface ProductRepositoryCustom {
-    Slice<Product> findSliceByFilters(
+    // Feed query: selects only the summary columns, paged with a row-value keyset (see ProductFeedQuery).
+    Slice<ProductSummaryRow> findSummarySliceByFilters(
             ProductSearchCondition condition,
             ProductSortBy sortBy,
             LocalDateTime cursorCreatedAt,
@@ -17,4 +18,3 @@ public interface ProductRepositoryCustom {
             Pageable pageable
     );
 }
-
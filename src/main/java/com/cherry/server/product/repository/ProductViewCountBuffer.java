@@ -0,0 +1,65 @@
+package com.cherry.server.product.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process view counts waiting to be written to Redis. Increments only touch a striped {@link LongAdder},
+ * and the flusher swaps the whole map out, so views recorded since the last flush are what a crash can lose.
+ */
+@Component
+public class ProductViewCountBuffer {
+
+    private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> pending =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public ProductViewCountBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder("trending.views.pending", this, ProductViewCountBuffer::pendingViews)
+                .description("Product views buffered in memory and not yet flushed to Redis")
+                .register(meterRegistry);
+        Gauge.builder("trending.views.pending.products", this, buffer -> buffer.pending.get().size())
+                .description("Distinct products with buffered views")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long productId) {
+        add(productId, 1);
+    }
+
+    /**
+     * Takes every buffered count and starts a fresh buffer. An increment racing with the swap may land in
+     * the drained map after it was read; that view is dropped, which the trending ranking tolerates.
+     */
+    public Map<Long, Long> drain() {
+        ConcurrentHashMap<Long, LongAdder> drained = pending.getAndSet(new ConcurrentHashMap<>());
+        Map<Long, Long> counts = new HashMap<>(drained.size());
+        drained.forEach((productId, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                counts.put(productId, count);
+            }
+        });
+        return counts;
+    }
+
+    // Puts back counts whose flush failed so a Redis outage delays views instead of losing them.
+    public void restore(Map<Long, Long> counts) {
+        counts.forEach(this::add);
+    }
+
+    long pendingViews() {
+        return pending.get().values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    private void add(Long productId, long count) {
+        pending.get().computeIfAbsent(productId, id -> new LongAdder()).add(count);
+    }
+}
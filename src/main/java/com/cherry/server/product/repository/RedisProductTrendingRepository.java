@@ -1,26 +1,109 @@
 package com.cherry.server.product.repository;
 
-import lombok.RequiredArgsConstructor;
+import com.cherry.server.product.trending.TrendingBuckets;
+import com.cherry.server.product.trending.TrendingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class RedisProductTrendingRepository implements ProductTrendingRepository {
 
     private final StringRedisTemplate redisTemplate;
+    private final ProductViewCountBuffer viewCountBuffer;
+    private final TrendingBuckets buckets;
+    private final Counter flushedViews;
+    private final Counter failedFlushes;
+    // Materialized ranking over the hourly buckets; rebuilt by recomputeTrending, never incremented directly.
     private static final String TRENDING_KEY = "trending:views:24h";
-    private static final long TRENDING_TTL_HOURS = 24;
 
+    public RedisProductTrendingRepository(
+            StringRedisTemplate redisTemplate,
+            ProductViewCountBuffer viewCountBuffer,
+            TrendingProperties trendingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.viewCountBuffer = viewCountBuffer;
+        this.buckets = new TrendingBuckets(trendingProperties);
+        this.flushedViews = Counter.builder("trending.views.flushed")
+                .description("Product views written to Redis")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("trending.views.flush.failures")
+                .register(meterRegistry);
+    }
+
+    // Buffered in memory; written to Redis by flushViewCounts so the detail view never waits on Redis.
     @Override
     public void incrementViewCount(Long productId) {
-        redisTemplate.opsForZSet().incrementScore(TRENDING_KEY, productId.toString(), 1);
-        redisTemplate.expire(TRENDING_KEY, TRENDING_TTL_HOURS, TimeUnit.HOURS);
+        viewCountBuffer.increment(productId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${trending.view-flush-interval:500ms}",
+            initialDelayString = "${trending.view-flush-interval:500ms}"
+    )
+    public void flushViewCounts() {
+        Map<Long, Long> counts = viewCountBuffer.drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] bucketKey = buckets.bucketKey(Instant.now()).getBytes(StandardCharsets.UTF_8);
+            long bucketTtlSeconds = buckets.bucketTtl().toSeconds();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                counts.forEach((productId, count) -> connection.zSetCommands().zIncrBy(
+                        bucketKey,
+                        count,
+                        productId.toString().getBytes(StandardCharsets.UTF_8)
+                ));
+                connection.keyCommands().expire(bucketKey, bucketTtlSeconds);
+                return null;
+            });
+            flushedViews.increment(counts.values().stream().mapToLong(Long::longValue).sum());
+        } catch (Exception e) {
+            failedFlushes.increment();
+            viewCountBuffer.restore(counts);
+            log.debug("Failed to flush {} buffered product view counts", counts.size(), e);
+        }
+    }
+
+    // ZUNIONSTORE replaces the ranking atomically, so readers always see a complete window.
+    @Scheduled(fixedDelayString = "${trending.recompute-interval:1m}")
+    public void recomputeTrending() {
+        List<String> windowKeys = buckets.windowKeys(Instant.now());
+        try {
+            redisTemplate.opsForZSet().unionAndStore(
+                    windowKeys.get(0),
+                    windowKeys.subList(1, windowKeys.size()),
+                    TRENDING_KEY,
+                    Aggregate.SUM,
+                    Weights.of(buckets.weights())
+            );
+            redisTemplate.expire(TRENDING_KEY, buckets.bucketTtl());
+        } catch (Exception e) {
+            log.debug("Failed to recompute trending ranking", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
     }
 
     @Override
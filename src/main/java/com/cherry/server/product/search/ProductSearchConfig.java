@@ -0,0 +1,25 @@
+package com.cherry.server.product.search;
+
+import com.cherry.server.config.RedisChannelListener;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Configuration
+@EnableConfigurationProperties(ProductSearchProperties.class)
+public class ProductSearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "product.search.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisChannelListener productReindexListener(ProductSearchIndexer productSearchIndexer) {
+        return new RedisChannelListener(
+                new ChannelTopic(ProductSearchIndexer.REINDEX_CHANNEL),
+                (message, pattern) -> productSearchIndexer.onReindexMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)
+                )
+        );
+    }
+}
@@ -0,0 +1,367 @@
+package com.cherry.server.product.search;
+
+import com.cherry.server.global.common.PageCursor;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.TagMatch;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process inverted index over product title, description and tag names. Every term maps to the ids of
+ * the products containing it, and each product keeps the columns the feed filters and sorts on, so a query
+ * is answered without touching MySQL: walk the shortest posting list, check the other terms, the filters
+ * and the cursor, and keep the best {@code limit + 1} hits in a bounded heap.
+ * Exact tags additionally have compressed, sorted posting lists ({@link SortedIdList}) that are intersected
+ * or merged block by block for tag AND/OR filters, feeding the same filter, cursor and heap step.
+ * Updates replace a product's postings one term at a time; a concurrent query may miss that product once.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SortedIdList> tagPostings = new ConcurrentHashMap<>();
+    // Set once a full rebuild has completed; until then the index may hold only part of the products.
+    private volatile boolean loaded;
+    private final Timer searchTimer;
+    private final Timer tagFilterTimer;
+
+    public ProductSearchIndex(MeterRegistry meterRegistry) {
+        this.searchTimer = latencyTimer(meterRegistry, "keyword");
+        this.tagFilterTimer = latencyTimer(meterRegistry, "tags");
+        Gauge.builder("product.search.documents", documents, ConcurrentHashMap::size)
+                .description("Products in the search index")
+                .register(meterRegistry);
+        Gauge.builder("product.search.terms", postings, ConcurrentHashMap::size)
+                .description("Distinct terms in the search index")
+                .register(meterRegistry);
+        Gauge.builder("product.search.tags", tagPostings, ConcurrentHashMap::size)
+                .description("Distinct tags with a posting list")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indexed copy of one product. {@code createdAtMicros} is the {@link PageCursor} key for LATEST, so
+     * search pages use the same cursor encoding as the feed. {@code tags} are {@link #tagKey normalized}.
+     */
+    public record Document(
+            long id,
+            ProductStatus status,
+            TradeType tradeType,
+            String categoryCode,
+            int price,
+            long createdAtMicros,
+            String[] terms,
+            String[] tags
+    ) {
+    }
+
+    public record Hits(List<Document> documents, boolean hasNext) {
+    }
+
+    public void put(Document document) {
+        Document previous = putTerms(document);
+        Set<String> current = Set.copyOf(Arrays.asList(document.tags()));
+        Set<String> before = previous == null ? Set.of() : Set.copyOf(Arrays.asList(previous.tags()));
+        for (String tag : before) {
+            if (!current.contains(tag)) {
+                removeTagPosting(tag, document.id());
+            }
+        }
+        for (String tag : current) {
+            if (!before.contains(tag)) {
+                tagPostings.merge(tag, SortedIdList.EMPTY.with(document.id()), (ids, added) -> ids.with(document.id()));
+            }
+        }
+    }
+
+    /**
+     * Bulk form of {@link #put} for the rebuild. Each tag's list takes the call's ids in one merge, which
+     * only re-encodes the blocks they fall into.
+     */
+    public void putAll(List<Document> newDocuments) {
+        Map<String, List<Long>> added = new HashMap<>();
+        for (Document document : newDocuments) {
+            Document previous = putTerms(document);
+            if (previous != null) {
+                for (String tag : previous.tags()) {
+                    removeTagPosting(tag, previous.id());
+                }
+            }
+            for (String tag : document.tags()) {
+                added.computeIfAbsent(tag, key -> new ArrayList<>()).add(document.id());
+            }
+        }
+        added.forEach((tag, ids) -> {
+            long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            tagPostings.merge(tag, SortedIdList.of(sorted), (existing, chunk) -> existing.withAll(sorted));
+        });
+    }
+
+    public void remove(long productId) {
+        Document previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            removePosting(term, productId);
+        }
+        for (String tag : previous.tags()) {
+            removeTagPosting(tag, productId);
+        }
+    }
+
+    // Drops indexed products up to maxId that a rebuild no longer found; newer ids may be fresh inserts.
+    public void retainOnly(Set<Long> productIds, long maxId) {
+        for (Long id : documents.keySet()) {
+            if (id <= maxId && !productIds.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    /**
+     * Products containing every term, filtered like the feed (PENDING is hidden unless a status is given)
+     * and ordered by {@code sortBy} with the id as tie-break. Returns at most {@code limit} hits after
+     * {@code cursor}.
+     */
+    public Hits search(Set<String> terms, ProductSearchCondition condition, ProductSortBy sortBy, PageCursor cursor, int limit) {
+        return searchTimer.record(() -> collect(terms, condition, sortBy, cursor, limit));
+    }
+
+    public static long sortKey(Document document, ProductSortBy sortBy) {
+        return sortBy == ProductSortBy.LATEST ? document.createdAtMicros() : document.price();
+    }
+
+    /**
+     * Products carrying all or any ({@link ProductSearchCondition#tagMatch()}) of the condition's tags, with
+     * the same filters, order and cursor as {@link #search}. Tags are compared by {@link #tagKey}.
+     */
+    public Hits tagged(ProductSearchCondition condition, ProductSortBy sortBy, PageCursor cursor, int limit) {
+        return tagFilterTimer.record(() -> {
+            HitCollector collector = new HitCollector(condition, sortBy, cursor, limit);
+            forEachTagCandidate(condition.tags(), condition.tagMatch() == TagMatch.ALL,
+                    id -> collector.offer(documents.get(id)));
+            return collector.hits();
+        });
+    }
+
+    public static String tagKey(String tag) {
+        return tag.trim().toLowerCase();
+    }
+
+    private Hits collect(Set<String> terms, ProductSearchCondition condition, ProductSortBy sortBy, PageCursor cursor, int limit) {
+        if (terms.isEmpty()) {
+            return new Hits(List.of(), false);
+        }
+        List<Set<Long>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids == null) {
+                return new Hits(List.of(), false);
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        HitCollector collector = new HitCollector(condition, sortBy, cursor, limit);
+        for (Long id : lists.get(0)) {
+            if (containsAll(lists, id)) {
+                collector.offer(documents.get(id));
+            }
+        }
+        return collector.hits();
+    }
+
+    private void forEachTagCandidate(List<String> tags, boolean matchAll, LongConsumer action) {
+        List<SortedIdList> lists = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            SortedIdList ids = tagPostings.get(tagKey(tag));
+            if (ids != null) {
+                lists.add(ids);
+            } else if (matchAll) {
+                return;
+            }
+        }
+        if (matchAll) {
+            SortedIdList.intersect(lists, action);
+        } else {
+            SortedIdList.union(lists, action);
+        }
+    }
+
+    /** Filters candidates like the feed and keeps the first {@code limit + 1} in sort order. */
+    private final class HitCollector {
+
+        private final ProductSearchCondition condition;
+        private final ProductSortBy sortBy;
+        private final PageCursor cursor;
+        private final int limit;
+        private final Set<String> tagKeys;
+        private final Comparator<Document> order;
+        // Worst hit on top, so a better candidate replaces it once the heap is full.
+        private final PriorityQueue<Document> best;
+
+        private HitCollector(ProductSearchCondition condition, ProductSortBy sortBy, PageCursor cursor, int limit) {
+            this.condition = condition;
+            this.sortBy = sortBy;
+            this.cursor = cursor;
+            this.limit = limit;
+            this.tagKeys = condition.tags().stream().map(ProductSearchIndex::tagKey).collect(Collectors.toSet());
+            this.order = order(sortBy);
+            this.best = new PriorityQueue<>(limit + 1, order.reversed());
+        }
+
+        private void offer(Document document) {
+            if (document == null
+                    || !matches(document, condition)
+                    || !hasTags(document, tagKeys, condition.tagMatch())
+                    || !isAfter(document, sortBy, cursor)) {
+                return;
+            }
+            if (best.size() <= limit) {
+                best.add(document);
+            } else if (order.compare(document, best.peek()) < 0) {
+                best.poll();
+                best.add(document);
+            }
+        }
+
+        private Hits hits() {
+            List<Document> hits = new ArrayList<>(best);
+            hits.sort(order);
+            boolean hasNext = hits.size() > limit;
+            return new Hits(hasNext ? hits.subList(0, limit) : hits, hasNext);
+        }
+    }
+
+    private boolean containsAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same semantics as ProductFeedQuery's WHERE clause.
+    private boolean matches(Document document, ProductSearchCondition condition) {
+        if (condition.status() != null ? document.status() != condition.status() : document.status() == ProductStatus.PENDING) {
+            return false;
+        }
+        if (condition.tradeType() != null
+                && document.tradeType() != condition.tradeType()
+                && document.tradeType() != TradeType.BOTH) {
+            return false;
+        }
+        if (condition.categoryCode() != null && !condition.categoryCode().equals(document.categoryCode())) {
+            return false;
+        }
+        if (condition.minPrice() != null && document.price() < condition.minPrice()) {
+            return false;
+        }
+        return condition.maxPrice() == null || document.price() <= condition.maxPrice();
+    }
+
+    private boolean hasTags(Document document, Set<String> tagKeys, TagMatch tagMatch) {
+        if (tagKeys.isEmpty()) {
+            return true;
+        }
+        int found = 0;
+        for (String tag : document.tags()) {
+            if (tagKeys.contains(tag)) {
+                found++;
+            }
+        }
+        return tagMatch == TagMatch.ANY ? found > 0 : found == tagKeys.size();
+    }
+
+    private boolean isAfter(Document document, ProductSortBy sortBy, PageCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        int compared = compareKeys(sortKey(document, sortBy), document.id(), cursor.key(), cursor.id());
+        return sortBy == ProductSortBy.LOW_PRICE ? compared > 0 : compared < 0;
+    }
+
+    private static Comparator<Document> order(ProductSortBy sortBy) {
+        Comparator<Document> ascending = (a, b) -> compareKeys(sortKey(a, sortBy), a.id(), sortKey(b, sortBy), b.id());
+        return sortBy == ProductSortBy.LOW_PRICE ? ascending : ascending.reversed();
+    }
+
+    private static int compareKeys(long key, long id, long otherKey, long otherId) {
+        int compared = Long.compare(key, otherKey);
+        return compared != 0 ? compared : Long.compare(id, otherId);
+    }
+
+    // Term postings only; returns the document it replaced.
+    private Document putTerms(Document document) {
+        Document previous = documents.put(document.id(), document);
+        if (previous != null) {
+            Set<String> current = Set.copyOf(Arrays.asList(document.terms()));
+            for (String term : previous.terms()) {
+                if (!current.contains(term)) {
+                    removePosting(term, document.id());
+                }
+            }
+        }
+        for (String term : document.terms()) {
+            postings.compute(term, (key, ids) -> {
+                Set<Long> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                updated.add(document.id());
+                return updated;
+            });
+        }
+        return previous;
+    }
+
+    private void removeTagPosting(String tag, long productId) {
+        tagPostings.computeIfPresent(tag, (key, ids) -> {
+            SortedIdList updated = ids.without(productId);
+            return updated.size() == 0 ? null : updated;
+        });
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("product.search.latency")
+                .description("Queries against the in-process product index")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void removePosting(String term, long productId) {
+        postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(productId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
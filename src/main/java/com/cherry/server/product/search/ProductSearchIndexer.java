@@ -0,0 +1,244 @@
+package com.cherry.server.product.search;
+
+import com.cherry.server.global.common.PageCursor;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Feeds {@link ProductSearchIndex} from MySQL: a full rebuild in id chunks once the application is up
+ * (after the dev seeder), then one product at a time after each committed create/update/delete.
+ * Other nodes are told to reload the product through {@link #REINDEX_CHANNEL}; each message carries the
+ * publishing node's id, so the publisher does not reload the product a second time.
+ * <p>
+ * A rebuild chunk may have been read before a change committed and land after that change was reindexed.
+ * Products reindexed while a rebuild runs are therefore reindexed again once it has finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+
+    public static final String REINDEX_CHANNEL = "search:reindex:products";
+
+    private static final String SELECT_PRODUCTS = "SELECT p.id, p.title, p.description, p.status, p.trade_type, " +
+            "p.price, p.created_at, c.code AS category_code " +
+            "FROM products p LEFT JOIN categories c ON c.id = p.category_id ";
+    private static final String SELECT_TAGS = "SELECT pt.product_id, t.name FROM product_tags pt " +
+            "JOIN tags t ON t.id = pt.tag_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    // Ids reindexed since the running rebuild started; null when no rebuild is running.
+    private final AtomicReference<Set<Long>> reindexedDuringRebuild = new AtomicReference<>();
+
+    /**
+     * Search and tag filters answer 503 until this has loaded the index. A failed rebuild is retried
+     * {@code product.search.rebuild-attempts} times; after the last failure startup fails instead of leaving
+     * the node up without search.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!properties.rebuildOnStartup()) {
+            productSearchIndex.markLoaded();
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rebuild();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.rebuildAttempts()) {
+                    throw new IllegalStateException("Product search index rebuild failed " + attempt + " times", e);
+                }
+                log.error("Product search index rebuild failed (attempt {}/{}), retrying in {}",
+                        attempt, properties.rebuildAttempts(), properties.rebuildRetryDelay(), e);
+            }
+            try {
+                Thread.sleep(properties.rebuildRetryDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while rebuilding the product search index", e);
+            }
+        }
+    }
+
+    // Returns the number of products indexed; the index counts as loaded once this has succeeded.
+    public int rebuild() {
+        long startedAt = System.nanoTime();
+        Set<Long> indexed = new HashSet<>();
+        reindexedDuringRebuild.set(ConcurrentHashMap.newKeySet());
+        try {
+            long lastId = loadChunks(indexed);
+            productSearchIndex.retainOnly(indexed, lastId);
+            productSearchIndex.markLoaded();
+        } finally {
+            // A reindex that registers after this swap reads the row after every chunk was written.
+            reindexedDuringRebuild.getAndSet(null).forEach(this::reindex);
+        }
+        log.info("Product search index rebuilt: {} products in {} ms",
+                indexed.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return indexed.size();
+    }
+
+    // Returns the last id loaded.
+    private long loadChunks(Set<Long> indexed) {
+        long lastId = 0;
+        while (true) {
+            List<ProductRow> rows = jdbcTemplate.query(
+                    SELECT_PRODUCTS + "WHERE p.id > ? ORDER BY p.id LIMIT ?",
+                    PRODUCT_ROW_MAPPER,
+                    lastId,
+                    properties.rebuildChunkSize()
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+            long firstId = rows.get(0).id();
+            lastId = rows.get(rows.size() - 1).id();
+            Map<Long, List<String>> tags = new HashMap<>();
+            jdbcTemplate.query(
+                    SELECT_TAGS + "WHERE pt.product_id BETWEEN ? AND ?",
+                    rs -> {
+                        tags.computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>()).add(rs.getString("name"));
+                    },
+                    firstId,
+                    lastId
+            );
+            List<ProductSearchIndex.Document> documents = new ArrayList<>(rows.size());
+            for (ProductRow row : rows) {
+                documents.add(toDocument(row, tags.getOrDefault(row.id(), List.of())));
+                indexed.add(row.id());
+            }
+            productSearchIndex.putAll(documents);
+        }
+        return lastId;
+    }
+
+    // Called from the entity listener; the row (and tags saved later in the same transaction) are read after commit.
+    public void reindexAfterCommit(Long productId) {
+        Runnable reindex = () -> {
+            reindex(productId);
+            publish(productId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindex.run();
+            }
+        });
+    }
+
+    public void reindex(Long productId) {
+        Set<Long> pending = reindexedDuringRebuild.get();
+        if (pending != null) {
+            pending.add(productId);
+        }
+        try {
+            List<ProductRow> rows = jdbcTemplate.query(SELECT_PRODUCTS + "WHERE p.id = ?", PRODUCT_ROW_MAPPER, productId);
+            if (rows.isEmpty()) {
+                productSearchIndex.remove(productId);
+                return;
+            }
+            List<String> tags = jdbcTemplate.queryForList(SELECT_TAGS + "WHERE pt.product_id = ?", String.class, productId);
+            productSearchIndex.put(toDocument(rows.get(0), tags));
+        } catch (Exception e) {
+            log.warn("Failed to reindex product {} for search", productId, e);
+        }
+    }
+
+    // Message format: "<node id>:<product id>".
+    public void onReindexMessage(String body) {
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            log.debug("Ignoring malformed search reindex message {}", body);
+            return;
+        }
+        if (body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            reindex(Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed search reindex message {}", body);
+        }
+    }
+
+    private ProductSearchIndex.Document toDocument(ProductRow row, List<String> tags) {
+        Set<String> terms = new LinkedHashSet<>(ProductTokenizer.indexTerms(row.title()));
+        terms.addAll(ProductTokenizer.indexTerms(row.description()));
+        Set<String> tagKeys = new LinkedHashSet<>();
+        for (String tag : tags) {
+            terms.addAll(ProductTokenizer.indexTerms(tag));
+            tagKeys.add(ProductSearchIndex.tagKey(tag));
+        }
+        return new ProductSearchIndex.Document(
+                row.id(),
+                row.status(),
+                row.tradeType(),
+                row.categoryCode(),
+                row.price(),
+                PageCursor.ofCreatedAt(row.createdAt(), row.id()).key(),
+                terms.toArray(String[]::new),
+                tagKeys.toArray(String[]::new)
+        );
+    }
+
+    private void publish(Long productId) {
+        try {
+            redisTemplate.convertAndSend(REINDEX_CHANNEL, nodeId + ":" + productId);
+        } catch (Exception e) {
+            log.debug("Failed to publish search reindex {}", productId, e);
+        }
+    }
+
+    private record ProductRow(
+            long id,
+            String title,
+            String description,
+            ProductStatus status,
+            TradeType tradeType,
+            int price,
+            LocalDateTime createdAt,
+            String categoryCode
+    ) {
+    }
+
+    private static final RowMapper<ProductRow> PRODUCT_ROW_MAPPER = (rs, rowNum) -> new ProductRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            ProductStatus.valueOf(rs.getString("status")),
+            TradeType.valueOf(rs.getString("trade_type")),
+            rs.getInt("price"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getString("category_code")
+    );
+}
@@ -0,0 +1,15 @@
+package com.cherry.server.product.search;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product.search")
+public record ProductSearchProperties(
+        @DefaultValue("true") boolean rebuildOnStartup,
+        @DefaultValue("1000") int rebuildChunkSize,
+        @DefaultValue("5") int rebuildAttempts,
+        @DefaultValue("10s") Duration rebuildRetryDelay,
+        @DefaultValue("true") boolean pubsubEnabled
+) {
+}
@@ -0,0 +1,77 @@
+package com.cherry.server.product.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Splits text into search terms. Korean has no spaces inside names and compounds ("뉴진스포카"), so Hangul
+ * runs become overlapping syllable bigrams; a single-syllable run is kept as is. Documents additionally
+ * index every syllable on its own ({@link #indexTerms}), so a one-syllable query ("책") also finds longer
+ * words ("중고책", "책상") and any query that is a substring of the text matches. Latin letters and digits
+ * form whole lower-cased words ("bts", "2nd").
+ */
+public final class ProductTokenizer {
+
+    private ProductTokenizer() {
+    }
+
+    // Query terms.
+    public static Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // Document terms: the query terms plus every Hangul syllable.
+    public static Set<String> indexTerms(String text) {
+        return tokenize(text, true);
+    }
+
+    private static Set<String> tokenize(String text, boolean syllables) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                addBigrams(terms, normalized, start, i);
+                if (syllables) {
+                    for (int j = start; j < i; j++) {
+                        terms.add(String.valueOf(normalized.charAt(j)));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                terms.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return terms;
+    }
+
+    private static void addBigrams(Set<String> terms, String text, int start, int end) {
+        if (end - start == 1) {
+            terms.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            terms.add(text.substring(i, i + 2));
+        }
+    }
+
+    // Composed syllables only; stray jamo such as "ㅋㅋ" are treated as a plain word.
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,410 @@
+package com.cherry.server.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Immutable ascending list of distinct product ids, stored as varint-encoded gaps in blocks of about
+ * {@value #BLOCK_SIZE} ids. Ids are dense and mostly close together within a tag, so a posting costs one or
+ * two bytes per product instead of the 8 bytes of a long (and the ~50 of a boxed hash set entry).
+ * <p>
+ * Changes return a new list that shares every block they did not touch. New products have the highest ids
+ * and land in the open tail block, so adding one re-encodes at most {@value #BLOCK_SIZE} ids and leaves the
+ * sealed blocks alone. Reads go through a {@link Cursor}, which decodes one block at a time and skips whole
+ * blocks by their bounds; {@link #intersect} and {@link #union} never materialize a list.
+ */
+public final class SortedIdList {
+
+    static final int BLOCK_SIZE = 128;
+
+    // Returned by a cursor once it is exhausted; above every id, so it also ends advance loops.
+    public static final long END = Long.MAX_VALUE;
+
+    public static final SortedIdList EMPTY = new SortedIdList(new Block[0], Block.EMPTY);
+
+    private final Block[] sealed;
+    // Ids above the last sealed block. Sealed once it reaches BLOCK_SIZE.
+    private final Block tail;
+    private final int size;
+
+    private SortedIdList(Block[] sealed, Block tail) {
+        this.sealed = sealed;
+        this.tail = tail;
+        int count = tail.size;
+        for (Block block : sealed) {
+            count += block.size;
+        }
+        this.size = count;
+    }
+
+    public static SortedIdList of(long[] sortedIds) {
+        return EMPTY.withAll(sortedIds);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size];
+        int offset = 0;
+        for (int i = 0; i < blockCount(); i++) {
+            Block block = block(i);
+            block.decode(ids, offset);
+            offset += block.size;
+        }
+        return ids;
+    }
+
+    public SortedIdList with(long id) {
+        return withAll(new long[]{id});
+    }
+
+    /** Adds ascending, distinct ids. Only the blocks the ids fall into are re-encoded. */
+    public SortedIdList withAll(long[] sortedIds) {
+        if (sortedIds.length == 0) {
+            return this;
+        }
+        long lastSealed = sealed.length == 0 ? Long.MIN_VALUE : sealed[sealed.length - 1].last;
+        int tailFrom = firstAtLeast(sortedIds, 0, lastSealed + 1);
+        Block[] blocks = tailFrom == 0 ? sealed : mergeIntoSealed(Arrays.copyOf(sortedIds, tailFrom));
+        if (tailFrom == sortedIds.length) {
+            return blocks == sealed ? this : new SortedIdList(blocks, tail);
+        }
+
+        long[] merged = union(tail.toArray(), Arrays.copyOfRange(sortedIds, tailFrom, sortedIds.length));
+        if (merged.length == tail.size) {
+            return blocks == sealed ? this : new SortedIdList(blocks, tail);
+        }
+        if (merged.length < BLOCK_SIZE) {
+            return new SortedIdList(blocks, Block.of(merged, 0, merged.length));
+        }
+        int full = merged.length - merged.length % BLOCK_SIZE;
+        List<Block> grown = new ArrayList<>(blocks.length + full / BLOCK_SIZE);
+        grown.addAll(Arrays.asList(blocks));
+        for (int from = 0; from < full; from += BLOCK_SIZE) {
+            grown.add(Block.of(merged, from, from + BLOCK_SIZE));
+        }
+        return new SortedIdList(grown.toArray(Block[]::new), Block.of(merged, full, merged.length));
+    }
+
+    public SortedIdList without(long id) {
+        if (tail.size > 0 && id >= tail.first) {
+            long[] ids = tail.toArray();
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? this : new SortedIdList(sealed, Block.of(remove(ids, index), 0, ids.length - 1));
+        }
+        int k = lastStartingAtOrBefore(id);
+        if (k < 0 || id > sealed[k].last) {
+            return this;
+        }
+        long[] ids = sealed[k].toArray();
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            Block[] blocks = new Block[sealed.length - 1];
+            System.arraycopy(sealed, 0, blocks, 0, k);
+            System.arraycopy(sealed, k + 1, blocks, k, sealed.length - k - 1);
+            return new SortedIdList(blocks, tail);
+        }
+        Block[] blocks = sealed.clone();
+        blocks[k] = Block.of(remove(ids, index), 0, ids.length - 1);
+        return new SortedIdList(blocks, tail);
+    }
+
+    /**
+     * Passes the ids present in every list to {@code action}, ascending. Leapfrogs from the shortest list, so
+     * the longer ones are only decoded in the blocks that can still contain a match.
+     */
+    public static void intersect(List<SortedIdList> lists, LongConsumer action) {
+        if (lists.isEmpty()) {
+            return;
+        }
+        Cursor[] cursors = lists.stream()
+                .sorted(Comparator.comparingInt(SortedIdList::size))
+                .map(SortedIdList::cursor)
+                .toArray(Cursor[]::new);
+        Cursor lead = cursors[0];
+        long candidate = lead.next();
+        while (candidate != END) {
+            long found = candidate;
+            for (int i = 1; i < cursors.length && found == candidate; i++) {
+                found = cursors[i].advance(candidate);
+            }
+            if (found == candidate) {
+                action.accept(candidate);
+                candidate = lead.next();
+            } else {
+                candidate = lead.advance(found);
+            }
+        }
+    }
+
+    /** Passes the ids present in any list to {@code action}, ascending and once each. */
+    public static void union(List<SortedIdList> lists, LongConsumer action) {
+        Cursor[] cursors = lists.stream().map(SortedIdList::cursor).toArray(Cursor[]::new);
+        long[] heads = new long[cursors.length];
+        for (int i = 0; i < cursors.length; i++) {
+            heads[i] = cursors[i].next();
+        }
+        while (true) {
+            long min = END;
+            for (long head : heads) {
+                min = Math.min(min, head);
+            }
+            if (min == END) {
+                return;
+            }
+            action.accept(min);
+            for (int i = 0; i < cursors.length; i++) {
+                if (heads[i] == min) {
+                    heads[i] = cursors[i].next();
+                }
+            }
+        }
+    }
+
+    /** Forward-only reader over the ids. Not thread-safe; take one per query. */
+    public final class Cursor {
+
+        private int blockIndex = -1;
+        private Block block = Block.EMPTY;
+        private int position;
+        private int remaining;
+        // The first id of a block is stored as its gap from zero.
+        private long previous;
+        private long current = Long.MIN_VALUE;
+
+        private Cursor() {
+        }
+
+        /** Moves to the next id, or returns {@link #END}. */
+        public long next() {
+            while (remaining == 0) {
+                if (blockIndex + 1 >= blockCount()) {
+                    return current = END;
+                }
+                load(blockIndex + 1);
+            }
+            long gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = block.gaps[position++];
+                gap |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            remaining--;
+            previous += gap;
+            return current = previous;
+        }
+
+        /** Moves to the first id at or above {@code target}; stays put if the current id already is. */
+        public long advance(long target) {
+            if (current >= target) {
+                return current;
+            }
+            if (remaining == 0 || block.last < target) {
+                int k = firstEndingAtOrAfter(target, blockIndex + 1);
+                if (k == blockCount()) {
+                    blockIndex = k;
+                    remaining = 0;
+                    return current = END;
+                }
+                load(k);
+            }
+            long id;
+            do {
+                id = next();
+            } while (id < target);
+            return id;
+        }
+
+        private void load(int index) {
+            blockIndex = index;
+            block = block(index);
+            position = 0;
+            remaining = block.size;
+            previous = 0;
+        }
+    }
+
+    int blockCount() {
+        return sealed.length + (tail.size > 0 ? 1 : 0);
+    }
+
+    Block block(int index) {
+        return index < sealed.length ? sealed[index] : tail;
+    }
+
+    // Ids that sort below the next sealed block's first id go into the block before it.
+    private Block[] mergeIntoSealed(long[] ids) {
+        List<Block> result = null;
+        int from = 0;
+        for (int k = 0; k < sealed.length; k++) {
+            int to = k + 1 < sealed.length ? firstAtLeast(ids, from, sealed[k + 1].first) : ids.length;
+            long[] merged = to == from ? null : union(sealed[k].toArray(), Arrays.copyOfRange(ids, from, to));
+            from = to;
+            if (merged == null || merged.length == sealed[k].size) {
+                if (result != null) {
+                    result.add(sealed[k]);
+                }
+                continue;
+            }
+            if (result == null) {
+                result = new ArrayList<>(sealed.length + 1);
+                result.addAll(Arrays.asList(sealed).subList(0, k));
+            }
+            // Split a block that doubled so an edit never re-encodes more than 2 * BLOCK_SIZE ids.
+            if (merged.length <= 2 * BLOCK_SIZE) {
+                result.add(Block.of(merged, 0, merged.length));
+            } else {
+                for (int start = 0; start < merged.length; start += BLOCK_SIZE) {
+                    result.add(Block.of(merged, start, Math.min(start + BLOCK_SIZE, merged.length)));
+                }
+            }
+        }
+        return result == null ? sealed : result.toArray(Block[]::new);
+    }
+
+    private int lastStartingAtOrBefore(long id) {
+        int low = 0;
+        int high = sealed.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sealed[mid].first <= id) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int firstEndingAtOrAfter(long id, int from) {
+        int low = from;
+        int high = blockCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (block(mid).last < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int firstAtLeast(long[] ids, int from, long value) {
+        int index = Arrays.binarySearch(ids, from, ids.length, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long[] remove(long[] ids, int index) {
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    // Both inputs ascending and distinct; so is the result.
+    private static long[] union(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                result[size++] = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                result[size++] = right[j++];
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /** Up to 2 * BLOCK_SIZE ids: the first as a varint from zero, then the gaps, in an exactly sized array. */
+    static final class Block {
+
+        static final Block EMPTY = new Block(new byte[0], 0, 0, 0);
+
+        final byte[] gaps;
+        final int size;
+        final long first;
+        final long last;
+
+        private Block(byte[] gaps, int size, long first, long last) {
+            this.gaps = gaps;
+            this.size = size;
+            this.first = first;
+            this.last = last;
+        }
+
+        static Block of(long[] ids, int from, int to) {
+            if (from == to) {
+                return EMPTY;
+            }
+            int length = 0;
+            long previous = 0;
+            for (int i = from; i < to; i++) {
+                length += varintLength(ids[i] - previous);
+                previous = ids[i];
+            }
+            byte[] gaps = new byte[length];
+            int position = 0;
+            previous = 0;
+            for (int i = from; i < to; i++) {
+                long gap = ids[i] - previous;
+                while ((gap & ~0x7FL) != 0) {
+                    gaps[position++] = (byte) ((gap & 0x7F) | 0x80);
+                    gap >>>= 7;
+                }
+                gaps[position++] = (byte) gap;
+                previous = ids[i];
+            }
+            return new Block(gaps, to - from, ids[from], ids[to - 1]);
+        }
+
+        long[] toArray() {
+            long[] ids = new long[size];
+            decode(ids, 0);
+            return ids;
+        }
+
+        void decode(long[] ids, int offset) {
+            int position = 0;
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                long gap = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = gaps[position++];
+                    gap |= (long) (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                previous += gap;
+                ids[offset + i] = previous;
+            }
+        }
+
+        private static int varintLength(long value) {
+            return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+        }
+    }
+}
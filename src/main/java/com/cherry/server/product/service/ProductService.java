@@ -1,12 +1,15 @@
 package com.cherry.server.product.service;
 
+import com.cherry.server.global.common.PageCursor;
 import com.cherry.server.product.cache.ProductCacheInvalidator;
+import com.cherry.server.product.cache.ProductIdPage;
+import com.cherry.server.product.cache.ProductListCache;
+import com.cherry.server.product.cache.ProductSummaryCache;
+import com.cherry.server.product.cache.RenderedProductPage;
 import com.cherry.server.product.domain.Category;
 import com.cherry.server.product.domain.Product;
 import com.cherry.server.product.domain.ProductImage;
 import com.cherry.server.product.domain.ProductStatus;
-import com.cherry.server.product.domain.ProductTag;
-import com.cherry.server.product.domain.Tag;
 import com.cherry.server.product.dto.ProductCreateRequest;
 import com.cherry.server.product.dto.ProductCreateResponse;
 import com.cherry.server.product.dto.ProductDetailResponse;
@@ -14,35 +17,41 @@ import com.cherry.server.product.dto.ProductListResponse;
 import com.cherry.server.product.dto.ProductSearchCondition;
 import com.cherry.server.product.dto.ProductSortBy;
 import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.cherry.server.product.dto.ProductSummaryRow;
 import com.cherry.server.product.repository.CategoryRepository;
-import com.cherry.server.product.repository.ProductImageRepository;
+import com.cherry.server.product.repository.ProductChildRowWriter;
 import com.cherry.server.product.repository.ProductTagRepository;
 import com.cherry.server.product.repository.ProductRepository;
 import com.cherry.server.product.repository.ProductTrendingRepository;
-import com.cherry.server.product.repository.TagRepository;
+import com.cherry.server.product.search.ProductSearchIndex;
+import com.cherry.server.product.search.ProductTokenizer;
+import com.cherry.server.product.trending.TrendingSnapshot;
 import com.cherry.server.upload.storage.StorageProperties;
 import com.cherry.server.user.domain.User;
 import com.cherry.server.user.repository.UserRepository;
-import com.cherry.server.wish.repository.ProductLikeRepository;
-import com.cherry.server.wish.repository.ProductLikeRepository.ProductLikeCount;
+import com.cherry.server.wish.service.LikeLookupService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -54,60 +63,124 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductTrendingRepository productTrendingRepository;
-    private final ProductLikeRepository productLikeRepository;
+    private final LikeLookupService likeLookupService;
     private final ProductTagRepository productTagRepository;
-    private final ProductImageRepository productImageRepository;
-    private final TagRepository tagRepository;
+    private final ProductChildRowWriter productChildRowWriter;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final ProductCacheInvalidator productCacheInvalidator;
-    private final StringRedisTemplate redisTemplate;
+    private final ProductListCache productListCache;
+    private final ProductSummaryCache productSummaryCache;
     private final ObjectMapper objectMapper;
+    private final TrendingSnapshot trendingSnapshot;
     private final StorageProperties storageProperties;
+    private final ProductSearchIndex productSearchIndex;
+    private final TagResolver tagResolver;
+
+    private static final int TRENDING_LIMIT = 10;
 
     @Value("${storage.base-url:}")
     private String storageBaseUrl;
 
-    private static final String PRODUCT_LIST_CACHE_PREFIX = "products:list";
-    private static final long PRODUCT_LIST_CACHE_TTL_SECONDS = 300;
-
-    public ProductListResponse getProducts(String cursor, int limit, Long userId, ProductSearchCondition condition, ProductSortBy sortBy) {
+    /**
+     * Returns the feed page as ready-to-write JSON, assembled from the cached id page and the cached
+     * per-product items. For logged-in users only the isLiked literals are patched.
+     */
+    public byte[] getProductsJson(String cursor, int limit, Long userId, ProductSearchCondition condition, ProductSortBy sortBy) {
+        if (condition.hasTags()) {
+            return getTaggedProductsJson(cursor, limit, userId, condition, sortBy);
+        }
+        // Decoded before the cache lookup so a cursor from another filter or sort is rejected, never cached.
+        PageCursor pageCursor = PageCursor.decode(cursor, cursorKind(sortBy), filterHash(condition));
         String cacheKey = buildProductsCacheKey(cursor, condition, sortBy, limit);
-        ProductListResponse cached = getCachedProductList(cacheKey);
-        if (cached != null) {
-            if (userId == null) {
-                return cached;
-            }
-            return applyLikedFlags(cached, userId);
+        ProductIdPage idPage = productListCache.getOrLoad(
+                cacheKey,
+                () -> loadProductIds(pageCursor, limit, condition, sortBy)
+        );
+        RenderedProductPage page = RenderedProductPage.assemble(
+                productSummaryCache.getAll(idPage.ids(), this::loadSummaries),
+                idPage.nextCursor()
+        );
+        if (userId == null || page.isEmpty()) {
+            return page.json();
+        }
+        Set<Long> likedProductIds = likeLookupService.findLikedProductIds(userId, page.productIds());
+        return page.withLikedFlags(likedProductIds);
+    }
+
+    /**
+     * Keyword search page, answered by the in-process index and rendered from the same per-product cache
+     * as the feed. Search pages are not cached: the index is already in memory.
+     */
+    public byte[] searchProductsJson(
+            String query,
+            String cursor,
+            int limit,
+            Long userId,
+            ProductSearchCondition condition,
+            ProductSortBy sortBy
+    ) {
+        requireSearchIndexLoaded();
+        Set<String> terms = ProductTokenizer.tokenize(query);
+        int scope = 31 * filterHash(condition) + String.join(" ", terms).hashCode();
+        PageCursor pageCursor = PageCursor.decode(cursor, cursorKind(sortBy), scope);
+        return renderHits(productSearchIndex.search(terms, condition, sortBy, pageCursor, limit), userId, sortBy, scope);
+    }
+
+    // Tag filters are answered by the index's tag posting lists instead of joining product_tags.
+    private byte[] getTaggedProductsJson(String cursor, int limit, Long userId, ProductSearchCondition condition, ProductSortBy sortBy) {
+        requireSearchIndexLoaded();
+        int scope = filterHash(condition);
+        PageCursor pageCursor = PageCursor.decode(cursor, cursorKind(sortBy), scope);
+        return renderHits(productSearchIndex.tagged(condition, sortBy, pageCursor, limit), userId, sortBy, scope);
+    }
+
+    // There is no SQL path for keyword or tag queries, and a partly loaded index would silently drop products.
+    private void requireSearchIndexLoaded() {
+        if (!productSearchIndex.isLoaded()) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Search is starting up, try again shortly."
+            );
         }
+    }
 
+    private byte[] renderHits(ProductSearchIndex.Hits hits, Long userId, ProductSortBy sortBy, int scope) {
+        List<ProductSearchIndex.Document> documents = hits.documents();
+        String nextCursor = null;
+        if (hits.hasNext()) {
+            ProductSearchIndex.Document last = documents.get(documents.size() - 1);
+            nextCursor = new PageCursor(ProductSearchIndex.sortKey(last, sortBy), last.id())
+                    .encode(cursorKind(sortBy), scope);
+        }
+        RenderedProductPage page = RenderedProductPage.assemble(
+                productSummaryCache.getAll(documents.stream().map(ProductSearchIndex.Document::id).toList(), this::loadSummaries),
+                nextCursor
+        );
+        if (userId == null || page.isEmpty()) {
+            return page.json();
+        }
+        Set<Long> likedProductIds = likeLookupService.findLikedProductIds(userId, page.productIds());
+        return page.withLikedFlags(likedProductIds);
+    }
+
+    // Items of a freshly loaded page are written through so the following hydration is served from cache.
+    private ProductIdPage loadProductIds(PageCursor cursor, int limit, ProductSearchCondition condition, ProductSortBy sortBy) {
         LocalDateTime cursorCreatedAt = null;
         Integer cursorPrice = null;
         Long cursorId = null;
 
         if (cursor != null) {
-            try {
-                int underscoreIndex = cursor.lastIndexOf('_');
-                if (underscoreIndex <= 0 || underscoreIndex == cursor.length() - 1) {
-                    throw new IllegalArgumentException("Invalid cursor");
-                }
-                String sortValue = cursor.substring(0, underscoreIndex);
-                Long parsedCursorId = Long.parseLong(cursor.substring(underscoreIndex + 1));
-                if (sortBy == ProductSortBy.LATEST) {
-                    cursorCreatedAt = LocalDateTime.parse(sortValue);
-                } else {
-                    cursorPrice = Integer.parseInt(sortValue);
-                }
-                cursorId = parsedCursorId;
-            } catch (Exception e) {
-                // Invalid cursor, treat as first page
-                cursorCreatedAt = null;
-                cursorPrice = null;
-                cursorId = null;
+            if (sortBy == ProductSortBy.LATEST) {
+                cursorCreatedAt = cursor.createdAt();
+            } else {
+                cursorPrice = cursor.price();
             }
+            cursorId = cursor.id();
         }
 
-        Slice<Product> slice = productRepository.findSliceByFilters(
+        ProductSummaryCache.Generation generation = productSummaryCache.generation();
+        Slice<ProductSummaryRow> slice = productRepository.findSummarySliceByFilters(
                 condition,
                 sortBy,
                 cursorCreatedAt,
@@ -115,9 +188,29 @@ public class ProductService {
                 cursorId,
                 PageRequest.of(0, limit)
         );
-        List<Product> products = slice.getContent();
-        List<Long> productIds = products.stream()
-                .map(Product::getId)
+        List<ProductSummaryRow> rows = slice.getContent();
+        productSummaryCache.putAll(toSummaries(rows), generation);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            ProductSummaryRow last = rows.get(rows.size() - 1);
+            PageCursor next = sortBy == ProductSortBy.LATEST
+                    ? PageCursor.ofCreatedAt(last.createdAt(), last.id())
+                    : PageCursor.ofPrice(last.price(), last.id());
+            nextCursor = next.encode(cursorKind(sortBy), filterHash(condition));
+        }
+
+        return new ProductIdPage(rows.stream().map(ProductSummaryRow::id).toList(), nextCursor);
+    }
+
+    private List<ProductSummaryResponse> loadSummaries(List<Long> productIds) {
+        return toSummaries(productRepository.findSummaryRowsByIdIn(productIds));
+    }
+
+    // Shared (user independent) feed items; isLiked is always false here and applied per request.
+    private List<ProductSummaryResponse> toSummaries(List<ProductSummaryRow> rows) {
+        List<Long> productIds = rows.stream()
+                .map(ProductSummaryRow::id)
                 .toList();
 
         Map<Long, List<String>> tagsMap = productIds.isEmpty()
@@ -128,41 +221,9 @@ public class ProductService {
                         Collectors.mapping(pt -> pt.getTag().getName(), Collectors.toList())
                 ));
 
-        Set<Long> likedProductIds = userId == null || productIds.isEmpty()
-                ? Collections.emptySet()
-                : new HashSet<>(productLikeRepository.findLikedProductIds(userId, productIds));
-        Map<Long, Long> likeCountMap = productIds.isEmpty()
-                ? Collections.emptyMap()
-                : productLikeRepository.countByProductIds(productIds).stream()
-                .collect(Collectors.toMap(ProductLikeCount::getProductId, ProductLikeCount::getLikeCount));
-        List<ProductSummaryResponse> items = products.stream()
-                .map(product -> ProductSummaryResponse.from(
-                        product,
-                        likedProductIds.contains(product.getId()),
-                        likeCountMap.getOrDefault(product.getId(), 0L),
-                        tagsMap.getOrDefault(product.getId(), List.of())
-                ))
-                .toList();
-
-        List<ProductSummaryResponse> cacheItems = userId == null
-                ? items
-                : items.stream()
-                .map(item -> withIsLiked(item, false))
+        return rows.stream()
+                .map(row -> ProductSummaryResponse.from(row, false, tagsMap.getOrDefault(row.id(), List.of())))
                 .toList();
-        
-        String nextCursor = null;
-        if (slice.hasNext()) {
-            Product last = slice.getContent().get(slice.getContent().size() - 1);
-            String nextSortValue = switch (sortBy) {
-                case LATEST -> last.getCreatedAt().toString();
-                case LOW_PRICE, HIGH_PRICE -> Integer.toString(last.getPrice());
-            };
-            nextCursor = nextSortValue + "_" + last.getId();
-        }
-
-        ProductListResponse response = new ProductListResponse(items, nextCursor);
-        cacheProductList(cacheKey, new ProductListResponse(cacheItems, nextCursor));
-        return response;
     }
 
     @Transactional
@@ -171,47 +232,57 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found"));
         
-        // Async increment view count
-        // 조회수 증가 (Redis에 비동기 저장)
+        // 조회수 증가 (메모리에 모았다가 주기적으로 Redis에 일괄 반영)
         productTrendingRepository.incrementViewCount(productId);
 
         // DTO로 변환하여 반환
-        boolean isLiked = userId != null && productLikeRepository.existsByUserIdAndProductId(userId, productId);
-        long likeCount = productLikeRepository.countByProductId(productId);
-        return ProductDetailResponse.from(product, isLiked, likeCount);
+        boolean isLiked = userId != null && likeLookupService.isLiked(userId, productId);
+        return ProductDetailResponse.from(product, isLiked, product.getLikeCount());
     }
     
-    public ProductListResponse getTrending(Long userId) {
-        List<Long> topIds = productTrendingRepository.getTopTrendingProductIds(10);
-        
-        if (topIds.isEmpty()) {
-            return new ProductListResponse(Collections.emptyList(), null);
+    /**
+     * Serves the shared trending snapshot; only isLiked is applied per request. The snapshot follows the
+     * ranking recompute, so like counts and status in it can be up to one refresh interval old.
+     */
+    public byte[] getTrendingJson(Long userId) {
+        RenderedProductPage page = trendingSnapshot.getOrBuild(this::buildTrendingPage);
+        if (userId == null || page.isEmpty()) {
+            return page.json();
         }
+        Set<Long> likedProductIds = likeLookupService.findLikedProductIds(userId, page.productIds());
+        return page.withLikedFlags(likedProductIds);
+    }
 
-        List<Product> products = productRepository.findAllByIdInWithSellerAndCategory(topIds);
-        
-        // Map for O(1) Access
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    @Scheduled(fixedDelayString = "${trending.recompute-interval:1m}")
+    public void refreshTrendingSnapshot() {
+        try {
+            trendingSnapshot.replace(buildTrendingPage());
+        } catch (Exception e) {
+            log.debug("Failed to refresh trending snapshot, keeping the previous one", e);
+        }
+    }
 
-        // Improve Sorting: O(N) instead of nested stream (O(N^2))
-        Set<Long> likedProductIds = userId == null
-                ? Collections.emptySet()
-                : new HashSet<>(productLikeRepository.findLikedProductIds(userId, topIds));
-        Map<Long, Long> likeCountMap = productLikeRepository.countByProductIds(topIds).stream()
-                .collect(Collectors.toMap(ProductLikeCount::getProductId, ProductLikeCount::getLikeCount));
-        List<ProductSummaryResponse> items = topIds.stream()
-                .filter(productMap::containsKey)
-                .map(productMap::get)
-                .filter(product -> product.getStatus() != ProductStatus.PENDING)
-                .map(product -> ProductSummaryResponse.from(
-                        product,
-                        likedProductIds.contains(product.getId()),
-                        likeCountMap.getOrDefault(product.getId(), 0L)
-                ))
+    private RenderedProductPage buildTrendingPage() {
+        List<Long> topIds = productTrendingRepository.getTopTrendingProductIds(TRENDING_LIMIT);
+        List<ProductSummaryRow> rows = topIds.isEmpty()
+                ? List.of()
+                : productRepository.findSummaryRowsByIdIn(topIds);
+
+        // Map for O(1) Access
+        Map<Long, ProductSummaryRow> rowMap = rows.stream()
+                .collect(Collectors.toMap(ProductSummaryRow::id, Function.identity()));
+        List<ProductSummaryRow> ranked = topIds.stream()
+                .filter(rowMap::containsKey)
+                .map(rowMap::get)
+                .filter(row -> row.status() != ProductStatus.PENDING)
                 .toList();
 
-        return new ProductListResponse(items, null);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new ProductListResponse(toSummaries(ranked), null));
+            return RenderedProductPage.of(json, objectMapper.getFactory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Transactional
@@ -231,6 +302,8 @@ public class ProductService {
                 .status(imageKeys.isEmpty() ? ProductStatus.SELLING : ProductStatus.PENDING)
                 .tradeType(request.tradeType())
                 .category(category)
+                // Until the image callback arrives the first image is shown as uploaded.
+                .thumbnailUrl(imageKeys.isEmpty() ? null : buildOriginalUrl(imageKeys.get(0)))
                 .build());
         if (!imageKeys.isEmpty()) {
             List<ProductImage> images = new ArrayList<>(imageKeys.size());
@@ -247,50 +320,25 @@ public class ProductService {
                         .isThumbnail(i == 0)
                         .build());
             }
-            productImageRepository.saveAll(images);
+            productChildRowWriter.insertImages(product.getId(), images);
         }
 
         List<String> tagNames = request.tags() == null ? List.of() : request.tags();
-        if (!tagNames.isEmpty()) {
-            List<ProductTag> productTags = new ArrayList<>();
-            for (String raw : tagNames) {
-                if (raw == null || raw.isBlank()) {
-                    continue;
-                }
-                String name = raw.trim();
-                Tag tag = tagRepository.findByName(name)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(name).build()));
-                productTags.add(ProductTag.builder().product(product).tag(tag).build());
-            }
-            if (!productTags.isEmpty()) {
-                productTagRepository.saveAll(productTags);
-            }
-        }
+        // Names differing only in case can resolve to the same tag, so link each id once.
+        Set<Long> tagIds = new LinkedHashSet<>(tagResolver.resolveIds(tagNames).values());
+        productChildRowWriter.insertTags(product.getId(), tagIds);
 
         productCacheInvalidator.invalidateProductListCache();
         return new ProductCreateResponse(product.getId());
     }
 
     public ProductListResponse getMyProducts(Long userId, String cursor, int limit) {
-        LocalDateTime cursorCreatedAt = null;
-        Long cursorId = null;
-
-        if (cursor != null) {
-            try {
-                int underscoreIndex = cursor.lastIndexOf('_');
-                if (underscoreIndex > 0 && underscoreIndex < cursor.length() - 1) {
-                    cursorCreatedAt = LocalDateTime.parse(cursor.substring(0, underscoreIndex));
-                    cursorId = Long.parseLong(cursor.substring(underscoreIndex + 1));
-                }
-            } catch (Exception e) {
-                cursorCreatedAt = null;
-                cursorId = null;
-            }
-        }
+        PageCursor pageCursor = PageCursor.decode(cursor, PageCursor.Kind.MY_PRODUCTS, Long.hashCode(userId));
 
         Slice<Product> slice;
-        if (cursorCreatedAt != null && cursorId != null) {
-            slice = productRepository.findBySellerIdWithCursor(userId, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+        if (pageCursor != null) {
+            slice = productRepository.findBySellerIdWithCursor(
+                    userId, pageCursor.createdAt(), pageCursor.id(), PageRequest.of(0, limit));
         } else {
             slice = productRepository.findBySellerIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(0, limit));
         }
@@ -300,12 +348,7 @@ public class ProductService {
 
         Set<Long> likedProductIds = productIds.isEmpty()
                 ? Collections.emptySet()
-                : new HashSet<>(productLikeRepository.findLikedProductIds(userId, productIds));
-        Map<Long, Long> likeCountMap = productIds.isEmpty()
-                ? Collections.emptyMap()
-                : productLikeRepository.countByProductIds(productIds).stream()
-                .collect(Collectors.toMap(ProductLikeCount::getProductId, ProductLikeCount::getLikeCount));
-
+                : likeLookupService.findLikedProductIds(userId, productIds);
         Map<Long, List<String>> tagsMap = productIds.isEmpty()
                 ? Collections.emptyMap()
                 : productTagRepository.findAllByProductIdInWithTag(productIds).stream()
@@ -318,7 +361,7 @@ public class ProductService {
                 .map(product -> ProductSummaryResponse.from(
                         product,
                         likedProductIds.contains(product.getId()),
-                        likeCountMap.getOrDefault(product.getId(), 0L),
+                        product.getLikeCount(),
                         tagsMap.getOrDefault(product.getId(), List.of())
                 ))
                 .toList();
@@ -326,13 +369,15 @@ public class ProductService {
         String nextCursor = null;
         if (slice.hasNext()) {
             Product last = products.get(products.size() - 1);
-            nextCursor = last.getCreatedAt().toString() + "_" + last.getId();
+            nextCursor = PageCursor.ofCreatedAt(last.getCreatedAt(), last.getId())
+                    .encode(PageCursor.Kind.MY_PRODUCTS, Long.hashCode(userId));
         }
 
         return new ProductListResponse(items, nextCursor);
     }
 
-    private String buildProductsCacheKey(String cursor, ProductSearchCondition condition, ProductSortBy sortBy, int limit) {
+    // Package-private for ProductServiceBenchmark.
+    String buildProductsCacheKey(String cursor, ProductSearchCondition condition, ProductSortBy sortBy, int limit) {
         String filterKey = String.join("|",
                 "status=" + valueOf(condition.status()),
                 "category=" + valueOf(condition.categoryCode()),
@@ -341,7 +386,6 @@ public class ProductService {
                 "tradeType=" + valueOf(condition.tradeType())
         );
         return String.join(":",
-                PRODUCT_LIST_CACHE_PREFIX,
                 valueOf(cursor),
                 filterKey,
                 valueOf(sortBy),
@@ -349,58 +393,25 @@ public class ProductService {
         );
     }
 
-    private ProductListResponse getCachedProductList(String cacheKey) {
-        try {
-            String cachedValue = redisTemplate.opsForValue().get(cacheKey);
-            if (cachedValue == null) {
-                return null;
-            }
-            return objectMapper.readValue(cachedValue, ProductListResponse.class);
-        } catch (Exception e) {
-            log.debug("Failed to read product list cache", e);
-            return null;
-        }
-    }
-
-    private void cacheProductList(String cacheKey, ProductListResponse response) {
-        try {
-            String payload = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(cacheKey, payload, PRODUCT_LIST_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            log.debug("Failed to write product list cache", e);
-        }
+    private PageCursor.Kind cursorKind(ProductSortBy sortBy) {
+        return switch (sortBy) {
+            case LATEST -> PageCursor.Kind.FEED_LATEST;
+            case LOW_PRICE -> PageCursor.Kind.FEED_LOW_PRICE;
+            case HIGH_PRICE -> PageCursor.Kind.FEED_HIGH_PRICE;
+        };
     }
 
-    private ProductListResponse applyLikedFlags(ProductListResponse cached, Long userId) {
-        List<ProductSummaryResponse> items = cached.items();
-        if (items == null || items.isEmpty()) {
-            return cached;
-        }
-        List<Long> productIds = items.stream()
-                .map(ProductSummaryResponse::id)
-                .toList();
-        Set<Long> likedProductIds = new HashSet<>(productLikeRepository.findLikedProductIds(userId, productIds));
-        List<ProductSummaryResponse> updatedItems = items.stream()
-                .map(item -> withIsLiked(item, likedProductIds.contains(item.id())))
-                .toList();
-        return new ProductListResponse(updatedItems, cached.nextCursor());
-    }
-
-    private ProductSummaryResponse withIsLiked(ProductSummaryResponse item, boolean isLiked) {
-        return ProductSummaryResponse.builder()
-                .id(item.id())
-                .title(item.title())
-                .price(item.price())
-                .status(item.status())
-                .tradeType(item.tradeType())
-                .thumbnailUrl(item.thumbnailUrl())
-                .category(item.category())
-                .seller(item.seller())
-                .createdAt(item.createdAt())
-                .tags(item.tags())
-                .isLiked(isLiked)
-                .likeCount(item.likeCount())
-                .build();
+    // Enum names rather than enum hashCodes, which differ between JVMs, so a cursor survives a redeploy.
+    private int filterHash(ProductSearchCondition condition) {
+        return Objects.hash(
+                condition.status() == null ? null : condition.status().name(),
+                condition.categoryCode(),
+                condition.minPrice(),
+                condition.maxPrice(),
+                condition.tradeType() == null ? null : condition.tradeType().name(),
+                condition.tags().stream().map(ProductSearchIndex::tagKey).sorted().toList(),
+                condition.tagMatch().name()
+        );
     }
 
     private String valueOf(Object value) {
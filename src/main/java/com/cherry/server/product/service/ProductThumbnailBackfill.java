@@ -0,0 +1,66 @@
+package com.cherry.server.product.service;
+
+import com.cherry.server.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills products.thumbnail_url for rows created before the column existed. New products get it from
+ * ProductService and ImageCallbackService. Works in id ranges with one short transaction each and only
+ * touches rows that are still empty, so it is safe to re-run. It writes the same thumbnail the read path
+ * used to derive (thumbnail, then image, then original URL), so cached feed items stay valid.
+ */
+@Slf4j
+@Component
+public class ProductThumbnailBackfill implements ApplicationRunner {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean runOnStartup;
+
+    public ProductThumbnailBackfill(
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.thumbnail-backfill.chunk-size:1000}") int chunkSize,
+            @Value("${product.thumbnail-backfill.enabled:false}") boolean runOnStartup
+    ) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!runOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.warn("Product thumbnail backfill failed", e);
+        }
+    }
+
+    // Returns the number of products that got a thumbnail_url.
+    public int backfill() {
+        long maxId = productRepository.findMaxId();
+        int filled = 0;
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+            Integer updated = transactionTemplate.execute(status -> productRepository.backfillThumbnailUrls(fromId, toId));
+            filled += updated == null ? 0 : updated;
+        }
+        if (filled > 0) {
+            log.info("Backfilled thumbnail_url for {} products", filled);
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,144 @@
+package com.cherry.server.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maps tag names to tag ids, creating the missing ones. Known names come from a small in-process cache;
+ * the rest cost one IN lookup plus, for names that do not exist yet, one multi-row INSERT IGNORE and a
+ * re-read. Concurrent creators of the same new tag both end up with the row that won ux_tags_name.
+ */
+@Component
+public class TagResolver {
+
+    private static final String CACHE_NAME = "tagIds";
+    private static final int MAX_CACHED_TAGS = 10_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> tagIds;
+
+    public TagResolver(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagIds = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(MAX_CACHED_TAGS)
+                        .recordStats()
+                        .<String, Long>build(),
+                CACHE_NAME
+        );
+    }
+
+    /**
+     * Returns the id for every non-blank name (trimmed, in input order). Runs inside the caller's
+     * transaction; new ids are only cached once it commits, so a rollback cannot leave ids of rows that
+     * were never written.
+     */
+    public Map<String, Long> resolveIds(Collection<String> rawNames) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String raw : rawNames) {
+            if (raw != null && !raw.isBlank()) {
+                names.add(raw.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> found = new LinkedHashMap<>(tagIds.getAllPresent(names));
+        List<String> missing = names.stream().filter(name -> !found.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            Map<String, Long> existing = select(missing, false);
+            // Sorted so that creators of overlapping new tags take the ux_tags_name locks in the same order.
+            List<String> toInsert = missing.stream()
+                    .filter(name -> !existing.containsKey(name))
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toList();
+            Map<String, Long> loaded = new LinkedHashMap<>(existing);
+            if (!toInsert.isEmpty()) {
+                insertIgnore(toInsert);
+                // A locking read sees a row another transaction committed after ours started.
+                loaded.putAll(select(toInsert, true));
+            }
+            found.putAll(loaded);
+            afterCommit(() -> tagIds.putAll(loaded));
+        }
+
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        for (String name : names) {
+            Long id = found.get(name);
+            if (id == null) {
+                throw new IllegalStateException("Tag was not created: " + name);
+            }
+            resolved.put(name, id);
+        }
+        return resolved;
+    }
+
+    // Tags are never deleted by the application; this is for tooling and tests that truncate the table.
+    public void evictAll() {
+        tagIds.invalidateAll();
+    }
+
+    // Keyed case-insensitively: under MySQL's default collation "BTS" and "bts" are the same row.
+    private Map<String, Long> select(List<String> names, boolean forUpdate) {
+        Map<String, Long> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        jdbcTemplate.query(
+                "SELECT id, name FROM tags WHERE name IN (:names)" + (forUpdate ? " FOR UPDATE" : ""),
+                new MapSqlParameterSource("names", names),
+                rs -> {
+                    byName.put(rs.getString("name"), rs.getLong("id"));
+                }
+        );
+        Map<String, Long> ids = new LinkedHashMap<>();
+        for (String name : names) {
+            Long id = byName.get(name);
+            if (id != null) {
+                ids.put(name, id);
+            }
+        }
+        return ids;
+    }
+
+    private void insertIgnore(List<String> names) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO tags (name, created_at, updated_at) VALUES ");
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.valueOf(LocalDateTime.now()));
+        List<String> rows = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            rows.add("(:name" + i + ", :now, :now)");
+            params.addValue("name" + i, names.get(i));
+        }
+        sql.append(String.join(", ", rows));
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
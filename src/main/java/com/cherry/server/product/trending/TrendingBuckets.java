@@ -0,0 +1,59 @@
+package com.cherry.server.product.trending;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hourly view buckets ({@code trending:views:h:yyyyMMddHH}, UTC) that make up the sliding trending window.
+ * Buckets expire on their own shortly after leaving the window, so no score outlives it.
+ */
+public final class TrendingBuckets {
+
+    public static final String BUCKET_KEY_PREFIX = "trending:views:h:";
+    private static final DateTimeFormatter BUCKET_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+
+    private final int windowHours;
+    private final Duration decayHalfLife;
+
+    public TrendingBuckets(TrendingProperties properties) {
+        if (properties.windowHours() < 1) {
+            throw new IllegalArgumentException("trending.window-hours must be positive");
+        }
+        this.windowHours = properties.windowHours();
+        this.decayHalfLife = properties.decayHalfLife();
+    }
+
+    public String bucketKey(Instant at) {
+        return BUCKET_KEY_PREFIX + BUCKET_FORMAT.format(at);
+    }
+
+    // Current (partial) hour first, oldest last.
+    public List<String> windowKeys(Instant now) {
+        Instant hour = now.truncatedTo(ChronoUnit.HOURS);
+        List<String> keys = new ArrayList<>(windowHours);
+        for (int age = 0; age < windowHours; age++) {
+            keys.add(bucketKey(hour.minus(age, ChronoUnit.HOURS)));
+        }
+        return keys;
+    }
+
+    // Matches windowKeys order: weight 0.5^(age / half-life), or 1 for every bucket without decay.
+    public double[] weights() {
+        double[] weights = new double[windowHours];
+        double halfLifeHours = decayHalfLife == null ? 0 : decayHalfLife.toSeconds() / 3600.0;
+        for (int age = 0; age < windowHours; age++) {
+            weights[age] = halfLifeHours > 0 ? Math.pow(0.5, age / halfLifeHours) : 1.0;
+        }
+        return weights;
+    }
+
+    public Duration bucketTtl() {
+        return Duration.ofHours(windowHours + 1L);
+    }
+}
@@ -0,0 +1,17 @@
+package com.cherry.server.product.trending;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bucket settings. The view flush and recompute intervals are read by the {@code @Scheduled} jobs themselves.
+ *
+ * @param decayHalfLife when set, a bucket's views count half as much every half-life; unset means a flat window
+ */
+@ConfigurationProperties(prefix = "trending")
+public record TrendingProperties(
+        @DefaultValue("24") int windowHours,
+        Duration decayHalfLife
+) {
+}
@@ -0,0 +1,45 @@
+package com.cherry.server.product.trending;
+
+import com.cherry.server.product.cache.RenderedProductPage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * The current trending page, rendered once per refresh and shared by every request until the next one.
+ */
+@Component
+public class TrendingSnapshot {
+
+    private final AtomicReference<RenderedProductPage> current = new AtomicReference<>();
+    // Single-flights the build for requests that arrive before the first refresh has completed.
+    private final ReentrantLock firstBuild = new ReentrantLock();
+
+    /**
+     * Returns the snapshot, building it with {@code builder} if there is none yet. Concurrent callers wait for
+     * a single build instead of each running their own.
+     */
+    public RenderedProductPage getOrBuild(Supplier<RenderedProductPage> builder) {
+        RenderedProductPage page = current.get();
+        if (page != null) {
+            return page;
+        }
+        firstBuild.lock();
+        try {
+            page = current.get();
+            if (page == null) {
+                // A scheduled refresh that finished meanwhile wins; it is at least as new.
+                current.compareAndSet(null, builder.get());
+                page = current.get();
+            }
+            return page;
+        } finally {
+            firstBuild.unlock();
+        }
+    }
+
+    public void replace(RenderedProductPage page) {
+        current.set(page);
+    }
+}
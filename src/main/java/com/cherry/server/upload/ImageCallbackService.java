@@ -51,12 +51,18 @@ public class ImageCallbackService {
 
         // Check if all images for this product are processed
         Product product = image.getProduct();
+        if (image.isThumbnail()) {
+            productRepository.updateThumbnailUrl(product.getId(), image.listThumbnailUrl());
+        }
         long totalImages = productImageRepository.countByProductId(product.getId());
         long processedImages = productImageRepository.countByProductIdAndImageUrlIsNotNull(product.getId());
 
         log.info("Image processing progress: productId={}, processed={}/{}",
                 product.getId(), processedImages, totalImages);
 
+        // The cached feed item carries the thumbnail, so drop just that entry
+        productCacheInvalidator.invalidateProductSummary(product.getId());
+
         if (processedImages >= totalImages) {
             product.activate();
             productCacheInvalidator.invalidateProductListCache();
@@ -0,0 +1,116 @@
+package com.cherry.server.wish.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user Bloom filters over liked product ids, so "definitely not liked" is answered in memory and only
+ * possible positives go to Redis or MySQL. A filter is built from the user's full like set; new likes are
+ * added locally and other nodes drop their copy when the like script publishes on
+ * {@link #INVALIDATION_CHANNEL}. Filters are rebuilt after {@code cache.likes.bloom-ttl} at the latest.
+ */
+@Component
+public class LikeBloomFilters {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate:likes";
+    private static final String CACHE_NAME = "likes.bloom";
+    // Head room so likes made after the build do not push the filter past its false-positive rate.
+    private static final int GROWTH_FACTOR = 2;
+    private static final int MIN_EXPECTED_INSERTIONS = 64;
+
+    private final LikeCacheProperties properties;
+    private final Cache<Long, LongBloomFilter> filters;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    public LikeBloomFilters(LikeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.filters = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.bloomMaxUsers())
+                        // Adding a like must not extend the filter's life, so expiry counts from the build only.
+                        .expireAfter(Expiry.creating((Long userId, LongBloomFilter filter) -> properties.bloomTtl()))
+                        .recordStats()
+                        .<Long, LongBloomFilter>build(),
+                CACHE_NAME
+        );
+        this.negatives = lookupCounter(meterRegistry, "negative");
+        this.positives = lookupCounter(meterRegistry, "positive");
+        this.falsePositives = Counter.builder("likes.bloom.false_positives")
+                .description("Possible positives from the like filter that turned out not to be liked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drops the ids the user has definitely not liked. {@code loadLikedIds} supplies the user's full like
+     * set when no filter is cached; if it fails, every id is returned unfiltered.
+     */
+    public List<Long> possiblyLiked(Long userId, List<Long> productIds, Function<Long, Collection<Long>> loadLikedIds) {
+        if (!properties.bloomEnabled()) {
+            return productIds;
+        }
+        LongBloomFilter filter;
+        try {
+            filter = filters.get(userId, id -> build(loadLikedIds.apply(id)));
+        } catch (RuntimeException e) {
+            return productIds;
+        }
+        List<Long> candidates = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            if (filter.mightContain(productId)) {
+                candidates.add(productId);
+            }
+        }
+        negatives.increment(productIds.size() - candidates.size());
+        positives.increment(candidates.size());
+        return candidates;
+    }
+
+    public void recordFalsePositives(int count) {
+        if (count > 0) {
+            falsePositives.increment(count);
+        }
+    }
+
+    /**
+     * Adds the like to the user's cached filter. Computing on the map waits for a build that is still in
+     * progress, whose like set may predate this like; reading the cache would miss that filter and leave
+     * it answering "not liked".
+     */
+    public void recordLike(Long userId, Long productId) {
+        filters.asMap().computeIfPresent(userId, (id, filter) -> {
+            filter.put(productId);
+            return filter;
+        });
+    }
+
+    // Forces a rebuild from the user's like set on next use.
+    public void invalidate(Long userId) {
+        filters.invalidate(userId);
+    }
+
+    private LongBloomFilter build(Collection<Long> likedIds) {
+        return LongBloomFilter.of(
+                likedIds,
+                Math.max(likedIds.size() * GROWTH_FACTOR, MIN_EXPECTED_INSERTIONS),
+                properties.bloomFalsePositiveRate()
+        );
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("likes.bloom.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
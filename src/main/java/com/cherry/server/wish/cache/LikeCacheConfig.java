@@ -0,0 +1,32 @@
+package com.cherry.server.wish.cache;
+
+import com.cherry.server.config.RedisChannelListener;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(LikeCacheProperties.class)
+public class LikeCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.likes.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisChannelListener likeInvalidationListener(LikeBloomFilters likeBloomFilters) {
+        return new RedisChannelListener(
+                new ChannelTopic(LikeBloomFilters.INVALIDATION_CHANNEL),
+                (message, pattern) -> {
+                    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                    try {
+                        likeBloomFilters.invalidate(Long.parseLong(body));
+                    } catch (NumberFormatException e) {
+                        log.debug("Ignoring malformed like invalidation message {}", body);
+                    }
+                }
+        );
+    }
+}
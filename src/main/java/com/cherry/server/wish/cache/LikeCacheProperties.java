@@ -0,0 +1,15 @@
+package com.cherry.server.wish.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "cache.likes")
+public record LikeCacheProperties(
+        @DefaultValue("true") boolean bloomEnabled,
+        @DefaultValue("0.01") double bloomFalsePositiveRate,
+        @DefaultValue("50000") long bloomMaxUsers,
+        @DefaultValue("10m") Duration bloomTtl,
+        @DefaultValue("true") boolean pubsubEnabled
+) {
+}
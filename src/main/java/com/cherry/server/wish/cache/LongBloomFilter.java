@@ -0,0 +1,79 @@
+package com.cherry.server.wish.cache;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over long ids. {@link #mightContain} never returns false for an added id; it
+ * returns true for an absent id with roughly the false-positive rate it was sized for. Safe for
+ * concurrent use.
+ */
+public final class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    private LongBloomFilter(long numBits, int numHashes) {
+        this.words = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    public static LongBloomFilter of(Collection<Long> values, int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long numBits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * LN2));
+        LongBloomFilter filter = new LongBloomFilter(numBits, numHashes);
+        values.forEach(filter::put);
+        return filter;
+    }
+
+    public void put(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        return (combined < 0 ? ~combined : combined) % numBits;
+    }
+
+    // MurmurHash3 fmix64: sequential ids must not land on neighbouring bits.
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,29 @@
+package com.cherry.server.wish.repository;
+
+/**
+ * One like/unlike waiting in the Redis queue for the database, encoded as {@code L|U:userId:productId:epochMillis}.
+ */
+public record LikeQueueEntry(
+        boolean liked,
+        Long userId,
+        Long productId,
+        long likedAtMillis
+) {
+
+    public static LikeQueueEntry parse(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 4 || !("L".equals(parts[0]) || "U".equals(parts[0]))) {
+            throw new IllegalArgumentException("Invalid like queue entry: " + value);
+        }
+        return new LikeQueueEntry(
+                "L".equals(parts[0]),
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2]),
+                Long.parseLong(parts[3])
+        );
+    }
+
+    public String format() {
+        return (liked ? "L" : "U") + ":" + userId + ":" + productId + ":" + likedAtMillis;
+    }
+}
@@ -18,20 +18,14 @@ public interface ProductLikeRepository extends JpaRepository<ProductLike, Long>
 
     boolean existsByUserIdAndProductId(Long userId, Long productId);
 
-    void deleteByUserAndProduct(User user, Product product);
+    long deleteByUserAndProduct(User user, Product product);
 
     Page<ProductLike> findAllByUserId(Long userId, Pageable pageable);
 
-    long countByProductId(Long productId);
-
-    @Query("SELECT pl.product.id as productId, COUNT(pl) as likeCount " +
-            "FROM ProductLike pl " +
-            "WHERE pl.product.id IN :productIds " +
-            "GROUP BY pl.product.id")
-    List<ProductLikeCount> countByProductIds(@Param("productIds") List<Long> productIds);
-
     @Query("SELECT pl FROM ProductLike pl " +
-            "JOIN FETCH pl.product " +
+            "JOIN FETCH pl.product p " +
+            "JOIN FETCH p.seller " +
+            "JOIN FETCH p.category " +
             "WHERE pl.user.id = :userId " +
             "AND (:cursorCreatedAt IS NULL OR pl.createdAt < :cursorCreatedAt " +
             "OR (pl.createdAt = :cursorCreatedAt AND pl.id < :cursorId)) " +
@@ -43,14 +37,12 @@ public interface ProductLikeRepository extends JpaRepository<ProductLike, Long>
             Pageable pageable
     );
 
+    @Query("SELECT pl.product.id FROM ProductLike pl WHERE pl.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT pl.product.id FROM ProductLike pl WHERE pl.user.id = :userId AND pl.product.id IN :productIds")
     List<Long> findLikedProductIds(
             @Param("userId") Long userId,
             @Param("productIds") List<Long> productIds
     );
-
-    interface ProductLikeCount {
-        Long getProductId();
-        Long getLikeCount();
-    }
 }
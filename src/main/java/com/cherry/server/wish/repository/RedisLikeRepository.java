@@ -0,0 +1,221 @@
+package com.cherry.server.wish.repository;
+
+import com.cherry.server.wish.cache.LikeBloomFilters;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis side of the like engine: every user's liked product ids ({@code likes:user:{id}}) plus a queue of
+ * changes that {@code LikeFlusher} writes to product_likes. A user's set only exists once it has been
+ * loaded from the database; it always holds the {@value #LOADED_MARKER} marker so an empty set survives.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisLikeRepository {
+
+    public static final long NOT_LOADED = -1L;
+    static final String USER_LIKES_PREFIX = "likes:user:";
+    static final String QUEUE_KEY = "likes:queue";
+    static final String PROCESSING_KEY = "likes:queue:processing";
+    static final String FLUSH_LEASE_KEY = "likes:flush:lease";
+    private static final String LOADED_MARKER = "0";
+    private static final long USER_LIKES_TTL_SECONDS = Duration.ofDays(1).toSeconds();
+    private static final String LIKE_INVALIDATION_CHANNEL = LikeBloomFilters.INVALIDATION_CHANNEL;
+
+    // Returns 1 when the state changed (and the change was queued), 0 when it already was in that state,
+    // -1 when the user's set is not loaded. A new like is also announced so other nodes drop their
+    // like filter for the user.
+    private static final RedisScript<Long> TOGGLE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local changed
+            if ARGV[4] == '1' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if changed == 1 then
+                redis.call('RPUSH', KEYS[2], ARGV[2])
+                if ARGV[4] == '1' then
+                    redis.call('PUBLISH', ARGV[5], ARGV[6])
+                end
+            end
+            return changed
+            """, Long.class);
+
+    private static final RedisScript<List> MEMBERSHIP_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            return redis.call('SMISMEMBER', KEYS[1], unpack(ARGV))
+            """, List.class);
+
+    // Takes or renews the flush lease for the caller's token and returns nothing while another token holds
+    // it. An unfinished batch (left by a failed or crashed flush) is handed out again before new entries.
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[3])
+            if owner and owner ~= ARGV[2] then
+                return false
+            end
+            redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3])
+            local batch = redis.call('LRANGE', KEYS[2], 0, -1)
+            if #batch > 0 then
+                return batch
+            end
+            batch = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #batch == 0 then
+                return batch
+            end
+            redis.call('LTRIM', KEYS[1], #batch, -1)
+            redis.call('RPUSH', KEYS[2], unpack(batch))
+            return batch
+            """, List.class);
+
+    // 1 when the caller still held the lease and it was renewed, 0 when it has passed to another flusher.
+    private static final RedisScript<Long> EXTEND_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // Drops the claimed batch only for the lease holder, so a flusher that lost its lease cannot delete a
+    // batch its successor has re-claimed but not yet committed.
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Long toggle(Long userId, Long productId, boolean liked, long likedAtMillis) {
+        LikeQueueEntry entry = new LikeQueueEntry(liked, userId, productId, likedAtMillis);
+        return redisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(userLikesKey(userId), QUEUE_KEY),
+                productId.toString(),
+                entry.format(),
+                Long.toString(USER_LIKES_TTL_SECONDS),
+                liked ? "1" : "0",
+                LIKE_INVALIDATION_CHANNEL,
+                userId.toString()
+        );
+    }
+
+    public void loadUserLikes(Long userId, Collection<Long> productIds) {
+        byte[] key = userLikesKey(userId).getBytes(StandardCharsets.UTF_8);
+        byte[][] members = new byte[productIds.size() + 1][];
+        members[0] = LOADED_MARKER.getBytes(StandardCharsets.UTF_8);
+        int i = 1;
+        for (Long productId : productIds) {
+            members[i++] = productId.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(key, members);
+            connection.keyCommands().expire(key, USER_LIKES_TTL_SECONDS);
+            return null;
+        });
+    }
+
+    // null when the user's set is not loaded
+    @SuppressWarnings("unchecked")
+    public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        List<Long> flags = redisTemplate.execute(
+                MEMBERSHIP_SCRIPT,
+                List.of(userLikesKey(userId)),
+                productIds.stream().map(String::valueOf).toArray()
+        );
+        if (flags == null || flags.size() != productIds.size()) {
+            return null;
+        }
+        Set<Long> liked = new HashSet<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (flags.get(i) == 1L) {
+                liked.add(productIds.get(i));
+            }
+        }
+        return liked;
+    }
+
+    // null when the user's set is not loaded
+    public Set<Long> findAllLikedProductIds(Long userId) {
+        String key = userLikesKey(userId);
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        if (members == null || members.isEmpty()) {
+            return null;
+        }
+        Set<Long> liked = new HashSet<>(members.size());
+        for (String member : members) {
+            if (!LOADED_MARKER.equals(member)) {
+                liked.add(Long.parseLong(member));
+            }
+        }
+        return liked;
+    }
+
+    // Empty when the queue is empty or another flusher holds the lease.
+    @SuppressWarnings("unchecked")
+    public List<LikeQueueEntry> claimBatch(String leaseToken, Duration lease, int maxSize) {
+        List<String> batch = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(QUEUE_KEY, PROCESSING_KEY, FLUSH_LEASE_KEY),
+                Integer.toString(maxSize),
+                leaseToken,
+                Long.toString(lease.toMillis())
+        );
+        if (batch == null) {
+            return List.of();
+        }
+        return batch.stream().map(LikeQueueEntry::parse).toList();
+    }
+
+    // Takes the flush lease only if nobody holds it, for jobs that must not run alongside a flush.
+    public boolean tryAcquireLease(String leaseToken, Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LEASE_KEY, leaseToken, lease));
+    }
+
+    public boolean extendLease(String leaseToken, Duration lease) {
+        Long extended = redisTemplate.execute(
+                EXTEND_LEASE_SCRIPT,
+                List.of(FLUSH_LEASE_KEY),
+                leaseToken,
+                Long.toString(lease.toMillis())
+        );
+        return extended != null && extended == 1L;
+    }
+
+    public boolean completeBatch(String leaseToken) {
+        Long completed = redisTemplate.execute(COMPLETE_SCRIPT, List.of(FLUSH_LEASE_KEY, PROCESSING_KEY), leaseToken);
+        return completed != null && completed == 1L;
+    }
+
+    public void releaseLease(String leaseToken) {
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(FLUSH_LEASE_KEY), leaseToken);
+    }
+
+    private String userLikesKey(Long userId) {
+        return USER_LIKES_PREFIX + userId;
+    }
+}
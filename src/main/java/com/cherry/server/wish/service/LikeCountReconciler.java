@@ -0,0 +1,110 @@
+package com.cherry.server.wish.service;
+
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.wish.repository.RedisLikeRepository;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Repairs products.like_count from product_likes. LikeFlusher moves the counter by the rows each batch
+ * inserts or deletes, so this only catches drift (manual deletes, restores). Works in id ranges, one short
+ * transaction each, so it never holds locks on the whole table.
+ * <p>
+ * The scheduled run holds the like flush lease, so it runs on one node at a time and never interleaves with
+ * a flush batch. Flushing pauses until it finishes; queued likes are written afterwards.
+ */
+@Slf4j
+@Component
+public class LikeCountReconciler {
+
+    private static final int LEASE_ATTEMPTS = 20;
+    private static final long LEASE_RETRY_MILLIS = 100;
+
+    private final ProductRepository productRepository;
+    private final RedisLikeRepository redisLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lease;
+
+    public LikeCountReconciler(
+            ProductRepository productRepository,
+            RedisLikeRepository redisLikeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${wish.like-count.reconcile-chunk-size:1000}") int chunkSize,
+            @Value("${wish.like-flush-lease:30s}") Duration lease
+    ) {
+        this.productRepository = productRepository;
+        this.redisLikeRepository = redisLikeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+    }
+
+    @Scheduled(cron = "${wish.like-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileScheduled() {
+        String leaseToken = UUID.randomUUID().toString();
+        try {
+            if (!acquireLease(leaseToken)) {
+                log.info("Skipping like count reconciliation: the like flush lease is held elsewhere");
+                return;
+            }
+            reconcile(() -> {
+                if (!redisLikeRepository.extendLease(leaseToken, lease)) {
+                    throw new IllegalStateException("Like flush lease passed to another node");
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Like count reconciliation failed", e);
+        } finally {
+            try {
+                redisLikeRepository.releaseLease(leaseToken);
+            } catch (Exception e) {
+                log.debug("Failed to release like flush lease", e);
+            }
+        }
+    }
+
+    // Returns the number of products whose like_count was corrected.
+    public int reconcile() {
+        return reconcile(() -> {
+        });
+    }
+
+    private int reconcile(Runnable beforeChunk) {
+        long maxId = productRepository.findMaxId();
+        int repaired = 0;
+        for (long start = 1; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+            beforeChunk.run();
+            Integer updated = transactionTemplate.execute(status -> productRepository.reconcileLikeCounts(fromId, toId));
+            repaired += updated == null ? 0 : updated;
+        }
+        if (repaired > 0) {
+            // Cached feed items pick the repaired counts up when their summary entries expire.
+            log.info("Repaired like_count for {} products", repaired);
+        }
+        return repaired;
+    }
+
+    // Flushes hold the lease for a few milliseconds at a time, so a short wait is enough to get in between
+    // them. Nodes that still fail skip the run: another node has the lease and is reconciling.
+    private boolean acquireLease(String leaseToken) throws InterruptedException {
+        for (int attempt = 0; attempt < LEASE_ATTEMPTS; attempt++) {
+            if (redisLikeRepository.tryAcquireLease(leaseToken, lease)) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(LEASE_RETRY_MILLIS);
+        }
+        return false;
+    }
+}
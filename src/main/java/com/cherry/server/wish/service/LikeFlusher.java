@@ -0,0 +1,187 @@
+package com.cherry.server.wish.service;
+
+import com.cherry.server.product.cache.ProductCacheInvalidator;
+import com.cherry.server.wish.repository.LikeQueueEntry;
+import com.cherry.server.wish.repository.RedisLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes queued likes to product_likes in batches. Every node runs the flusher, but only the holder of a
+ * Redis lease claims batches, so they commit one at a time in queue order and an old like can never be
+ * applied after a newer unlike. The lease is renewed right before each commit and the commit is rolled back
+ * if the lease has passed to another node, so a stalled node cannot write after its successor.
+ * A batch stays claimed in Redis until its transaction commits, so a failed flush is retried; replays are
+ * harmless because rows go in with INSERT IGNORE (ux_product_like_user_product) and like_count only moves
+ * by the rows actually inserted or deleted.
+ */
+@Slf4j
+@Component
+public class LikeFlusher {
+
+    private static final String INSERT_LIKE_SQL =
+            "INSERT IGNORE INTO product_likes (user_id, product_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM product_likes WHERE user_id = ? AND product_id = ?";
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE products SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String RECOUNT_LIKE_COUNT_SQL =
+            "UPDATE products SET like_count = (SELECT COUNT(*) FROM product_likes WHERE product_id = ?) WHERE id = ?";
+
+    private final RedisLikeRepository redisLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final WishService wishService;
+    private final int batchSize;
+    private final Duration lease;
+    private final Counter flushedLikes;
+
+    public LikeFlusher(
+            RedisLikeRepository redisLikeRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ProductCacheInvalidator productCacheInvalidator,
+            WishService wishService,
+            MeterRegistry meterRegistry,
+            @Value("${wish.like-flush-batch-size:1000}") int batchSize,
+            @Value("${wish.like-flush-lease:30s}") Duration lease
+    ) {
+        this.redisLikeRepository = redisLikeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productCacheInvalidator = productCacheInvalidator;
+        this.wishService = wishService;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.flushedLikes = Counter.builder("wish.likes.flushed")
+                .description("Like/unlike changes written from the Redis queue to product_likes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wish.like-flush-interval:500ms}")
+    public void flush() {
+        String leaseToken = UUID.randomUUID().toString();
+        try {
+            List<LikeQueueEntry> batch;
+            do {
+                batch = redisLikeRepository.claimBatch(leaseToken, lease, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                applyBatch(batch, () -> {
+                    if (!redisLikeRepository.extendLease(leaseToken, lease)) {
+                        throw new IllegalStateException("Like flush lease was lost before commit");
+                    }
+                });
+                if (!redisLikeRepository.completeBatch(leaseToken)) {
+                    return;
+                }
+                flushedLikes.increment(batch.size());
+            } while (batch.size() >= batchSize);
+        } catch (Exception e) {
+            log.debug("Failed to flush queued likes, the claimed batch will be retried", e);
+        } finally {
+            releaseLease(leaseToken);
+        }
+    }
+
+    public void applyBatch(List<LikeQueueEntry> entries) {
+        applyBatch(entries, () -> {
+        });
+    }
+
+    // beforeCommit runs last inside the transaction; throwing from it rolls the batch back.
+    private void applyBatch(List<LikeQueueEntry> entries, Runnable beforeCommit) {
+        // The Redis set already holds the final state, so only the last change per (user, product) matters.
+        Map<List<Long>, LikeQueueEntry> latest = new LinkedHashMap<>();
+        for (LikeQueueEntry entry : entries) {
+            latest.put(List.of(entry.userId(), entry.productId()), entry);
+        }
+        List<LikeQueueEntry> likes = new ArrayList<>();
+        List<LikeQueueEntry> unlikes = new ArrayList<>();
+        latest.values().forEach(entry -> (entry.liked() ? likes : unlikes).add(entry));
+
+        Set<Long> touchedProducts = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            Set<Long> recount = new HashSet<>();
+            collectDeltas(likes, batchUpdate(INSERT_LIKE_SQL, likes.stream()
+                    .map(like -> {
+                        Timestamp likedAt = Timestamp.from(Instant.ofEpochMilli(like.likedAtMillis()));
+                        return new Object[]{like.userId(), like.productId(), likedAt, likedAt};
+                    })
+                    .toList()), 1, deltas, recount);
+            collectDeltas(unlikes, batchUpdate(DELETE_LIKE_SQL, unlikes.stream()
+                    .map(unlike -> new Object[]{unlike.userId(), unlike.productId()})
+                    .toList()), -1, deltas, recount);
+
+            deltas.keySet().removeAll(recount);
+            batchUpdate(ADD_LIKE_COUNT_SQL, deltas.entrySet().stream()
+                    .filter(delta -> delta.getValue() != 0)
+                    .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                    .toList());
+            batchUpdate(RECOUNT_LIKE_COUNT_SQL, recount.stream()
+                    .map(productId -> new Object[]{productId, productId})
+                    .toList());
+            touchedProducts.addAll(deltas.keySet());
+            touchedProducts.addAll(recount);
+            beforeCommit.run();
+        });
+
+        touchedProducts.forEach(productCacheInvalidator::invalidateProductSummary);
+        latest.values().stream()
+                .map(LikeQueueEntry::userId)
+                .distinct()
+                .forEach(wishService::invalidateLikesCache);
+    }
+
+    private void releaseLease(String leaseToken) {
+        try {
+            redisLikeRepository.releaseLease(leaseToken);
+        } catch (Exception e) {
+            log.debug("Failed to release the like flush lease, it expires after {}", lease, e);
+        }
+    }
+
+    private int[] batchUpdate(String sql, List<Object[]> args) {
+        return args.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // Drivers may report SUCCESS_NO_INFO for batched statements; those products are recounted instead.
+    private void collectDeltas(
+            List<LikeQueueEntry> entries,
+            int[] affectedRows,
+            int sign,
+            Map<Long, Long> deltas,
+            Set<Long> recount
+    ) {
+        for (int i = 0; i < entries.size(); i++) {
+            Long productId = entries.get(i).productId();
+            if (affectedRows[i] == Statement.SUCCESS_NO_INFO) {
+                recount.add(productId);
+            } else if (affectedRows[i] > 0) {
+                deltas.merge(productId, (long) sign * affectedRows[i], Long::sum);
+            }
+        }
+    }
+}
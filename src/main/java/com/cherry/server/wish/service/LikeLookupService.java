@@ -0,0 +1,74 @@
+package com.cherry.server.wish.service;
+
+import com.cherry.server.wish.cache.LikeBloomFilters;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.repository.RedisLikeRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers "which of these products has the user liked". The user's like filter rules out most ids in
+ * memory; the rest are checked against the user's Redis like set, which also sees likes that are still
+ * queued for the database. The set is loaded from the database on first use; without Redis the database
+ * is asked directly.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeLookupService {
+
+    private final RedisLikeRepository redisLikeRepository;
+    private final ProductLikeRepository productLikeRepository;
+    private final LikeBloomFilters likeBloomFilters;
+
+    public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        List<Long> candidates = productIds.isEmpty()
+                ? productIds
+                : likeBloomFilters.possiblyLiked(userId, productIds, this::loadAllLikedProductIds);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> liked = lookup(userId, candidates);
+        likeBloomFilters.recordFalsePositives(candidates.size() - liked.size());
+        return liked;
+    }
+
+    public boolean isLiked(Long userId, Long productId) {
+        return findLikedProductIds(userId, List.of(productId)).contains(productId);
+    }
+
+    private Set<Long> lookup(Long userId, List<Long> productIds) {
+        try {
+            Set<Long> liked = redisLikeRepository.findLikedProductIds(userId, productIds);
+            if (liked != null) {
+                return liked;
+            }
+            List<Long> allLiked = productLikeRepository.findProductIdsByUserId(userId);
+            redisLikeRepository.loadUserLikes(userId, allLiked);
+            Set<Long> requested = new HashSet<>(productIds);
+            requested.retainAll(allLiked);
+            return requested;
+        } catch (Exception e) {
+            log.debug("Failed to read likes of user {} from Redis", userId, e);
+        }
+        return new HashSet<>(productLikeRepository.findLikedProductIds(userId, productIds));
+    }
+
+    // The Redis set is authoritative while loaded; the database may still miss queued likes.
+    private Collection<Long> loadAllLikedProductIds(Long userId) {
+        try {
+            Set<Long> liked = redisLikeRepository.findAllLikedProductIds(userId);
+            if (liked != null) {
+                return liked;
+            }
+        } catch (Exception e) {
+            log.debug("Failed to read like set of user {} from Redis", userId, e);
+        }
+        return productLikeRepository.findProductIdsByUserId(userId);
+    }
+}
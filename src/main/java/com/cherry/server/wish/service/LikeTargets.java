@@ -0,0 +1,69 @@
+package com.cherry.server.wish.service;
+
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Predicate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Existence checks for the Redis like path, which otherwise never reads the database. The application never
+ * deletes users or products, so ids found once are remembered for a while; unknown ids always go to the
+ * database and get the same 404 as the database path.
+ */
+@Component
+public class LikeTargets {
+
+    private static final int MAX_CACHED_IDS = 100_000;
+    // Bounds how long a row removed by hand can still be liked.
+    private static final Duration KNOWN_TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final Cache<Long, Boolean> knownUsers;
+    private final Cache<Long, Boolean> knownProducts;
+
+    public LikeTargets(
+            UserRepository userRepository,
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.knownUsers = knownIds(meterRegistry, "likeTargets.users");
+        this.knownProducts = knownIds(meterRegistry, "likeTargets.products");
+    }
+
+    public void requireExisting(Long userId, Long productId) {
+        require(knownUsers, userId, userRepository::existsById, "User not found.");
+        require(knownProducts, productId, productRepository::existsById, "Product not found.");
+    }
+
+    private void require(Cache<Long, Boolean> known, Long id, Predicate<Long> exists, String message) {
+        if (known.getIfPresent(id) != null) {
+            return;
+        }
+        if (!exists.test(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, message);
+        }
+        known.put(id, Boolean.TRUE);
+    }
+
+    private static Cache<Long, Boolean> knownIds(MeterRegistry meterRegistry, String name) {
+        return CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(MAX_CACHED_IDS)
+                        .expireAfterWrite(KNOWN_TTL)
+                        .recordStats()
+                        .<Long, Boolean>build(),
+                name
+        );
+    }
+}
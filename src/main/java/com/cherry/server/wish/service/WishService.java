@@ -1,5 +1,7 @@
 package com.cherry.server.wish.service;
 
+import com.cherry.server.global.common.PageCursor;
+import com.cherry.server.product.cache.ProductCacheInvalidator;
 import com.cherry.server.product.domain.Product;
 import com.cherry.server.product.dto.ProductSummaryResponse;
 import com.cherry.server.product.dto.ProductListResponse;
@@ -7,8 +9,9 @@ import com.cherry.server.product.repository.ProductRepository;
 import com.cherry.server.user.domain.User;
 import com.cherry.server.user.repository.UserRepository;
 import com.cherry.server.wish.domain.ProductLike;
+import com.cherry.server.wish.cache.LikeBloomFilters;
 import com.cherry.server.wish.repository.ProductLikeRepository;
-import com.cherry.server.wish.repository.ProductLikeRepository.ProductLikeCount;
+import com.cherry.server.wish.repository.RedisLikeRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,36 +19,99 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
-import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.concurrent.TimeUnit;
-import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class WishService {
 
     private final ProductLikeRepository productLikeRepository;
+    private final RedisLikeRepository redisLikeRepository;
+    private final LikeLookupService likeLookupService;
+    private final LikeBloomFilters likeBloomFilters;
+    private final LikeTargets likeTargets;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String LIKES_LIST_CACHE_PREFIX = "likes:list";
-    private static final String PRODUCT_LIST_CACHE_PREFIX = "products:list";
     private static final long LIKES_LIST_CACHE_TTL_SECONDS = 300;
+    private static final long LIKES_LIST_VERSION_TTL_HOURS = 24;
 
+    public WishService(
+            ProductLikeRepository productLikeRepository,
+            RedisLikeRepository redisLikeRepository,
+            LikeLookupService likeLookupService,
+            LikeBloomFilters likeBloomFilters,
+            LikeTargets likeTargets,
+            UserRepository userRepository,
+            ProductRepository productRepository,
+            ProductCacheInvalidator productCacheInvalidator,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.productLikeRepository = productLikeRepository;
+        this.redisLikeRepository = redisLikeRepository;
+        this.likeLookupService = likeLookupService;
+        this.likeBloomFilters = likeBloomFilters;
+        this.likeTargets = likeTargets;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.productCacheInvalidator = productCacheInvalidator;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Normally one Redis round trip: the like set is updated and the change queued for LikeFlusher.
+    // Without Redis the like is written to the database directly. Missing users and products are a 404 either way.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void addLike(Long userId, Long productId) {
+        likeTargets.requireExisting(userId, productId);
+        if (!toggleInRedis(userId, productId, true)) {
+            transactionTemplate.executeWithoutResult(status -> addLikeInDatabase(userId, productId));
+        }
+        likeBloomFilters.recordLike(userId, productId);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void removeLike(Long userId, Long productId) {
+        likeTargets.requireExisting(userId, productId);
+        if (!toggleInRedis(userId, productId, false)) {
+            transactionTemplate.executeWithoutResult(status -> removeLikeInDatabase(userId, productId));
+        }
+    }
+
+    private boolean toggleInRedis(Long userId, Long productId, boolean liked) {
+        try {
+            long now = System.currentTimeMillis();
+            Long result = redisLikeRepository.toggle(userId, productId, liked, now);
+            if (result != null && result == RedisLikeRepository.NOT_LOADED) {
+                redisLikeRepository.loadUserLikes(userId, productLikeRepository.findProductIdsByUserId(userId));
+                result = redisLikeRepository.toggle(userId, productId, liked, now);
+            }
+            return result != null && result != RedisLikeRepository.NOT_LOADED;
+        } catch (Exception e) {
+            log.debug("Failed to update likes of user {} in Redis, writing to the database", userId, e);
+            return false;
+        }
+    }
+
+    private void addLikeInDatabase(Long userId, Long productId) {
         User user = getUser(userId);
         Product product = getProduct(productId);
 
@@ -55,66 +121,52 @@ public class WishService {
 
         try {
             productLikeRepository.save(ProductLike.create(user, product));
+            productRepository.incrementLikeCount(productId);
             invalidateLikesCache(userId);
-            invalidateProductListCache();
+            productCacheInvalidator.invalidateProductSummary(productId);
         } catch (DataIntegrityViolationException ignored) {
         }
     }
 
-    public void removeLike(Long userId, Long productId) {
+    private void removeLikeInDatabase(Long userId, Long productId) {
         User user = getUser(userId);
         Product product = getProduct(productId);
-        productLikeRepository.deleteByUserAndProduct(user, product);
+        if (productLikeRepository.deleteByUserAndProduct(user, product) > 0) {
+            productRepository.decrementLikeCount(productId);
+        }
         invalidateLikesCache(userId);
-        invalidateProductListCache();
+        productCacheInvalidator.invalidateProductSummary(productId);
     }
 
     @Transactional(readOnly = true)
     public ProductListResponse getMyLikes(Long userId, String cursor, int limit) {
         getUser(userId);
+        PageCursor pageCursor = PageCursor.decode(cursor, PageCursor.Kind.MY_LIKES, Long.hashCode(userId));
         String cacheKey = buildLikesCacheKey(userId, cursor, limit);
         ProductListResponse cached = getCachedLikes(cacheKey);
         if (cached != null) {
             return cached;
         }
-        LocalDateTime cursorCreatedAt = null;
-        Long cursorId = null;
-
-        if (cursor != null) {
-            try {
-                String[] parts = cursor.split("_");
-                cursorCreatedAt = LocalDateTime.parse(parts[0]);
-                cursorId = Long.parseLong(parts[1]);
-            } catch (Exception ignored) {
-            }
-        }
-
         Slice<ProductLike> likes = productLikeRepository.findAllByUserIdWithProductCursor(
                 userId,
-                cursorCreatedAt,
-                cursorId,
+                pageCursor == null ? null : pageCursor.createdAt(),
+                pageCursor == null ? null : pageCursor.id(),
                 PageRequest.of(0, limit)
         );
-        List<ProductLike> likeList = likes.getContent();
-        List<Long> productIds = likeList.stream()
-                .map(like -> like.getProduct().getId())
-                .toList();
-        Map<Long, Long> likeCountMap = productIds.isEmpty()
-                ? Collections.emptyMap()
-                : productLikeRepository.countByProductIds(productIds).stream()
-                .collect(Collectors.toMap(ProductLikeCount::getProductId, ProductLikeCount::getLikeCount));
-        List<ProductSummaryResponse> items = likeList.stream()
+        List<ProductSummaryResponse> items = likes.getContent().stream()
                 .map(like -> ProductSummaryResponse.from(
                         like.getProduct(),
                         true,
-                        likeCountMap.getOrDefault(like.getProduct().getId(), 0L)
+                        like.getProduct().getLikeCount(),
+                        List.of()
                 ))
                 .toList();
 
         String nextCursor = null;
         if (likes.hasNext()) {
             ProductLike last = likes.getContent().get(likes.getContent().size() - 1);
-            nextCursor = last.getCreatedAt().toString() + "_" + last.getId();
+            nextCursor = PageCursor.ofCreatedAt(last.getCreatedAt(), last.getId())
+                    .encode(PageCursor.Kind.MY_LIKES, Long.hashCode(userId));
         }
 
         ProductListResponse response = new ProductListResponse(items, nextCursor);
@@ -124,9 +176,9 @@ public class WishService {
 
     @Transactional(readOnly = true)
     public boolean isLiked(Long userId, Long productId) {
-        User user = getUser(userId);
-        Product product = getProduct(productId);
-        return productLikeRepository.existsByUserAndProduct(user, product);
+        getUser(userId);
+        getProduct(productId);
+        return likeLookupService.isLiked(userId, productId);
     }
 
     private User getUser(Long userId) {
@@ -140,15 +192,26 @@ public class WishService {
     }
 
     private String buildLikesCacheKey(Long userId, String cursor, int limit) {
+        String version;
+        try {
+            version = redisTemplate.opsForValue().get(likesVersionKey(userId));
+        } catch (Exception e) {
+            log.debug("Failed to read likes cache version", e);
+            return null;
+        }
         return String.join(":",
                 LIKES_LIST_CACHE_PREFIX,
                 String.valueOf(userId),
+                "v" + (version == null ? "0" : version),
                 valueOf(cursor),
                 Integer.toString(limit)
         );
     }
 
     private ProductListResponse getCachedLikes(String cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
         try {
             String cachedValue = redisTemplate.opsForValue().get(cacheKey);
             if (cachedValue == null) {
@@ -162,6 +225,9 @@ public class WishService {
     }
 
     private void cacheLikes(String cacheKey, ProductListResponse response) {
+        if (cacheKey == null) {
+            return;
+        }
         try {
             String payload = objectMapper.writeValueAsString(response);
             redisTemplate.opsForValue().set(cacheKey, payload, LIKES_LIST_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
@@ -170,26 +236,22 @@ public class WishService {
         }
     }
 
-    private void invalidateLikesCache(Long userId) {
-        deleteKeysByPattern(LIKES_LIST_CACHE_PREFIX + ":" + userId + ":*");
-    }
-
-    private void invalidateProductListCache() {
-        deleteKeysByPattern(PRODUCT_LIST_CACHE_PREFIX + ":*");
-    }
-
-    private void deleteKeysByPattern(String pattern) {
+    // Per-user generation counter: bumping it orphans every cached likes page of that user.
+    // The counter outlives the page TTL and is refreshed on each bump.
+    void invalidateLikesCache(Long userId) {
+        String versionKey = likesVersionKey(userId);
         try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys == null || keys.isEmpty()) {
-                return;
-            }
-            redisTemplate.delete(keys);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, LIKES_LIST_VERSION_TTL_HOURS, TimeUnit.HOURS);
         } catch (Exception e) {
-            log.debug("Failed to delete cache keys for pattern {}", pattern, e);
+            log.debug("Failed to bump likes cache version for user {}", userId, e);
         }
     }
 
+    private String likesVersionKey(Long userId) {
+        return LIKES_LIST_CACHE_PREFIX + ":" + userId + ":version";
+    }
+
     private String valueOf(Object value) {
         return value == null ? "null" : value.toString();
     }
@@ -0,0 +1,4 @@
+ALTER TABLE products ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE products p
+SET p.like_count = (SELECT COUNT(*) FROM product_likes pl WHERE pl.product_id = p.id);
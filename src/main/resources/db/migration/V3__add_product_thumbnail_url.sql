@@ -0,0 +1,2 @@
+-- Existing rows are filled by ProductThumbnailBackfill (product.thumbnail-backfill.enabled=true) in id chunks.
+ALTER TABLE products ADD COLUMN thumbnail_url VARCHAR(500) NULL;
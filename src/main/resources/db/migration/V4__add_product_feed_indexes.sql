@@ -0,0 +1,8 @@
+-- Feed sort/filter indexes; keep in sync with @Table(indexes) on Product. InnoDB builds them online.
+CREATE INDEX idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX idx_products_status_created_at_id ON products (status, created_at, id);
+CREATE INDEX idx_products_category_created_at_id ON products (category_id, created_at, id);
+CREATE INDEX idx_products_seller_created_at_id ON products (seller_user_id, created_at, id);
+CREATE INDEX idx_products_price_id ON products (price, id);
+CREATE INDEX idx_products_status_price_id ON products (status, price, id);
+CREATE INDEX idx_products_category_price_id ON products (category_id, price, id);
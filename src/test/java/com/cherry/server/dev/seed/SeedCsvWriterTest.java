@@ -0,0 +1,49 @@
+package com.cherry.server.dev.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
+import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SeedCsvWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writes_one_file_per_table_with_offset_ids() throws Exception {
+        SeedDataGenerator generator = new SeedDataGenerator();
+        SeedConfig config = new SeedConfig(20, 7L, true);
+        SeedDataGenerator.GeneratedData expected = generator.generate(config);
+        SeedJdbcSeeder.IdStarts ids = new SeedJdbcSeeder.IdStarts(101, 11, 1001, 5001, 9001, 20001);
+
+        SeedReport report;
+        try (SeedCsvWriter writer = new SeedCsvWriter(directory, ids)) {
+            ReferenceData reference = generator.referenceData(config);
+            writer.writeReference(reference);
+            generator.generateProducts(config, reference, writer);
+            report = writer.finish();
+        }
+
+        List<String> users = lines("users.csv");
+        List<String> products = lines("products.csv");
+        assertThat(users).hasSize(50);
+        assertThat(users.get(0)).startsWith("101,\"seed-7-user-0000@example.com\"").contains(",\\N,");
+        assertThat(products).hasSize(20);
+        assertThat(products.get(0)).startsWith("5001,");
+        assertThat(lines("product_images.csv")).hasSize(expected.productImages().size());
+        assertThat(lines("product_tags.csv")).hasSize(expected.productTags().size())
+                .allSatisfy(line -> assertThat(Long.parseLong(line.split(",")[2])).isBetween(1001L, 1200L));
+        assertThat(report.rowsByTable()).containsEntry("products", 20L).containsEntry("users", 50L);
+    }
+
+    private List<String> lines(String file) throws Exception {
+        return Files.readAllLines(directory.resolve(file), StandardCharsets.UTF_8);
+    }
+}
@@ -3,6 +3,11 @@ package com.cherry.server.dev.seed;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.Test;
 
 class SeedDataGeneratorTest {
@@ -45,5 +50,55 @@ class SeedDataGeneratorTest {
             assertThat(img.imageOrder()).isGreaterThanOrEqualTo(0);
         });
     }
-}
 
+    @Test
+    void generate_products_streams_the_same_rows_as_generate() {
+        SeedConfig config = new SeedConfig(100, 42L, true);
+        SeedDataGenerator generator = new SeedDataGenerator();
+        SeedDataGenerator.GeneratedData data = generator.generate(config);
+
+        List<SeedDataGenerator.GeneratedProduct> streamed = new ArrayList<>();
+        generator.generateProducts(config, generator.referenceData(config), streamed::add);
+
+        assertThat(streamed).extracting(SeedDataGenerator.GeneratedProduct::productId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+        assertThat(streamed).extracting(p -> p.product().title())
+                .containsExactlyElementsOf(data.products().stream().map(SeedDataGenerator.ProductRow::title).toList());
+        assertThat(streamed.stream().mapToInt(p -> p.tags().size()).sum()).isEqualTo(data.productTags().size());
+        assertThat(streamed.stream().mapToInt(p -> p.images().size()).sum()).isEqualTo(data.productImages().size());
+    }
+
+    @Test
+    void products_are_the_same_in_any_range_or_split() {
+        SeedConfig config = new SeedConfig(1000, 42L, true);
+        SeedDataGenerator generator = new SeedDataGenerator();
+        SeedDataGenerator.ReferenceData reference = generator.referenceData(config);
+
+        List<SeedDataGenerator.GeneratedProduct> sequential = generator.productStream(config, reference).toList();
+        List<SeedDataGenerator.GeneratedProduct> parallel =
+                StreamSupport.stream(generator.products(config, reference), true).toList();
+        List<SeedDataGenerator.GeneratedProduct> range = new ArrayList<>();
+        generator.products(config, reference, 501, 750).forEachRemaining(range::add);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(range).isEqualTo(sequential.subList(500, 750));
+        assertThat(generator.product(config, reference, 900)).isEqualTo(sequential.get(899));
+    }
+
+    @Test
+    void product_spliterator_splits_by_id_range() {
+        SeedConfig config = new SeedConfig(10, 1L, false);
+        SeedDataGenerator generator = new SeedDataGenerator();
+        Spliterator<SeedDataGenerator.GeneratedProduct> suffix =
+                generator.products(config, generator.referenceData(config));
+
+        Spliterator<SeedDataGenerator.GeneratedProduct> prefix = suffix.trySplit();
+
+        assertThat(prefix.estimateSize()).isEqualTo(5);
+        assertThat(suffix.estimateSize()).isEqualTo(5);
+        List<Long> ids = new ArrayList<>();
+        prefix.forEachRemaining(p -> ids.add(p.productId()));
+        suffix.forEachRemaining(p -> ids.add(p.productId()));
+        assertThat(ids).containsExactlyElementsOf(LongStream.rangeClosed(1, 10).boxed().toList());
+    }
+}
@@ -2,15 +2,18 @@ package com.cherry.server.dev.seed;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.cherry.server.dev.seed.SeedDataGenerator.ReferenceData;
 import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = "seed.batch-size=16")
 class SeedJdbcSeederTest {
 
     @Autowired
@@ -19,6 +22,9 @@ class SeedJdbcSeederTest {
     @Autowired
     private SeedJdbcSeeder seeder;
 
+    @Autowired
+    private SeedParallelLoader parallelLoader;
+
     @Test
     void seed_inserts_rows_into_core_tables() {
         SeedDataGenerator.GeneratedData data = new SeedDataGenerator().generate(new SeedConfig(50, 123L, true));
@@ -37,5 +43,53 @@ class SeedJdbcSeederTest {
         assertThat(productCount).isEqualTo(50);
         assertThat(imageCount).isGreaterThan(0);
     }
-}
 
+    @Test
+    void batch_session_streams_products_in_batches() {
+        SeedDataGenerator generator = new SeedDataGenerator();
+        SeedConfig config = new SeedConfig(50, 123L, true);
+        SeedDataGenerator.GeneratedData expected = generator.generate(config);
+
+        ReferenceData reference = generator.referenceData(config);
+        SeedJdbcSeeder.BatchSession session = seeder.startBatch(reference, new SeedJdbcSeeder.SeedRunOptions(true, "YES"));
+        generator.generateProducts(config, reference, session);
+        SeedReport report = session.finish();
+
+        Integer productCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        Integer imageCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_images", Integer.class);
+        Integer productTagCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_tags", Integer.class);
+        Integer withThumbnail = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products WHERE thumbnail_url IS NOT NULL", Integer.class);
+
+        assertThat(productCount).isEqualTo(50);
+        assertThat(imageCount).isEqualTo(expected.productImages().size());
+        assertThat(productTagCount).isEqualTo(expected.productTags().size());
+        assertThat(withThumbnail).isEqualTo(50);
+        assertThat(report.rowsByTable()).containsEntry("products", 50L);
+        assertThat(report.totalRows()).isEqualTo(50 + expected.categories().size() + 200 + 50
+                + expected.productImages().size() + expected.productTags().size());
+    }
+
+    @Test
+    void parallel_load_writes_every_range_with_non_overlapping_ids() {
+        SeedConfig config = new SeedConfig(101, 9L, true);
+        SeedDataGenerator.GeneratedData expected = new SeedDataGenerator().generate(config);
+
+        SeedReport report = parallelLoader.load(config, new SeedJdbcSeeder.SeedRunOptions(true, "YES"));
+
+        Integer productCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        Long idSpan = jdbcTemplate.queryForObject("SELECT MAX(id) - MIN(id) + 1 FROM products", Long.class);
+        Integer imageCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_images", Integer.class);
+        Integer productTagCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_tags", Integer.class);
+        Integer orphanImages = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_images pi LEFT JOIN products p ON p.id = pi.product_id WHERE p.id IS NULL",
+                Integer.class);
+
+        assertThat(productCount).isEqualTo(101);
+        assertThat(idSpan).isEqualTo(101L);
+        assertThat(imageCount).isEqualTo(expected.productImages().size());
+        assertThat(productTagCount).isEqualTo(expected.productTags().size());
+        assertThat(orphanImages).isZero();
+        assertThat(report.rowsByTable()).containsEntry("products", 101L);
+    }
+}
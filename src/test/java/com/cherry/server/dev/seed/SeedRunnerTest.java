@@ -7,7 +7,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.cherry.server.dev.seed.SeedDataGenerator.SeedConfig;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
 
 class SeedRunnerTest {
@@ -18,11 +18,15 @@ class SeedRunnerTest {
         SeedRunner runner = new SeedRunner(
                 seeder,
                 new SeedDataGenerator(),
+                mock(SeedParallelLoader.class),
                 10,
                 1L,
                 true,
                 true,
-                ""
+                "",
+                SeedRunner.Mode.IN_MEMORY,
+                Path.of("build/seed-csv"),
+                false
         );
 
         assertThatThrownBy(() -> runner.run())
@@ -36,11 +40,15 @@ class SeedRunnerTest {
         SeedRunner runner = new SeedRunner(
                 seeder,
                 new SeedDataGenerator(),
+                mock(SeedParallelLoader.class),
                 10,
                 1L,
                 true,
                 false,
-                ""
+                "",
+                SeedRunner.Mode.IN_MEMORY,
+                Path.of("build/seed-csv"),
+                false
         );
 
         runner.run();
@@ -0,0 +1,84 @@
+package com.cherry.server.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cherry.server.global.common.PageCursor;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class PageCursorTest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Test
+    void round_trips_created_at_to_the_microsecond() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 5, 12, 34, 56, 123_456_000);
+        String encoded = PageCursor.ofCreatedAt(createdAt, 98_765L).encode(PageCursor.Kind.FEED_LATEST, 42);
+
+        PageCursor decoded = PageCursor.decode(encoded, PageCursor.Kind.FEED_LATEST, 42);
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(98_765L);
+        assertThat(encoded).hasSizeLessThan("2026-01-05T12:34:56.123456_98765".length()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void round_trips_price() {
+        String encoded = PageCursor.ofPrice(15_000, 7L).encode(PageCursor.Kind.FEED_LOW_PRICE, -1);
+
+        PageCursor decoded = PageCursor.decode(encoded, PageCursor.Kind.FEED_LOW_PRICE, -1);
+
+        assertThat(decoded.price()).isEqualTo(15_000);
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void missing_cursor_is_the_first_page() {
+        assertThat(PageCursor.decode(null, PageCursor.Kind.MY_LIKES, 1)).isNull();
+        assertThat(PageCursor.decode("", PageCursor.Kind.MY_LIKES, 1)).isNull();
+    }
+
+    @Test
+    void rejects_cursor_from_another_kind_or_scope() {
+        String encoded = PageCursor.ofPrice(100, 1L).encode(PageCursor.Kind.FEED_LOW_PRICE, 42);
+
+        assertThatThrownBy(() -> PageCursor.decode(encoded, PageCursor.Kind.FEED_HIGH_PRICE, 42))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> PageCursor.decode(encoded, PageCursor.Kind.FEED_LOW_PRICE, 43))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void rejects_malformed_cursors() {
+        String encoded = PageCursor.ofPrice(100, 1L).encode(PageCursor.Kind.FEED_LOW_PRICE, 42);
+
+        for (String cursor : new String[]{
+                "2026-01-05T12:34:56.123456_98765",
+                "not base64!",
+                encoded.substring(0, encoded.length() - 1),
+                encoded + "AA",
+                "A".repeat(200)
+        }) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor, PageCursor.Kind.FEED_LOW_PRICE, 42))
+                    .as(cursor)
+                    .isInstanceOf(ResponseStatusException.class);
+        }
+    }
+
+    @Test
+    void rejects_padded_varints_instead_of_misreading_the_id() {
+        byte[] canonical = {1, (byte) PageCursor.Kind.FEED_LOW_PRICE.ordinal(), 0, 0, 0, 42, 100, 1};
+        byte[] paddedKey = {1, (byte) PageCursor.Kind.FEED_LOW_PRICE.ordinal(), 0, 0, 0, 42, (byte) 0xE4, (byte) 0x80, 0, 1};
+        byte[] paddedId = {1, (byte) PageCursor.Kind.FEED_LOW_PRICE.ordinal(), 0, 0, 0, 42, 100, (byte) 0x81, 0};
+
+        assertThat(PageCursor.decode(ENCODER.encodeToString(canonical), PageCursor.Kind.FEED_LOW_PRICE, 42))
+                .isEqualTo(PageCursor.ofPrice(100, 1L));
+        for (byte[] bytes : new byte[][]{paddedKey, paddedId}) {
+            assertThatThrownBy(() -> PageCursor.decode(ENCODER.encodeToString(bytes), PageCursor.Kind.FEED_LOW_PRICE, 42))
+                    .isInstanceOf(ResponseStatusException.class);
+        }
+    }
+}
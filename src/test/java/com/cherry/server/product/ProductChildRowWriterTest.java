@@ -0,0 +1,154 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductImage;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.Tag;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductChildRowWriter;
+import com.cherry.server.product.repository.ProductImageRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.product.repository.ProductTagRepository;
+import com.cherry.server.product.repository.TagRepository;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductChildRowWriterTest {
+
+    @Autowired
+    private ProductChildRowWriter productChildRowWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User seller = userRepository.save(User.builder()
+                .email("writer-" + suffix + "@example.com")
+                .nickname("writer-" + suffix)
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("WRITER-" + suffix)
+                .displayName("배치")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        product = productRepository.save(Product.builder()
+                .seller(seller)
+                .title("배치 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productTagRepository.deleteAll();
+        tagRepository.deleteAll();
+        productImageRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void inserts_images_with_their_order_urls_and_thumbnail_flag() {
+        productChildRowWriter.insertImages(product.getId(), List.of(
+                ProductImage.builder().originalUrl("https://cdn/original-0.jpg").imageOrder(0).isThumbnail(true).build(),
+                ProductImage.builder()
+                        .originalUrl("https://cdn/original-1.jpg")
+                        .imageUrl("https://cdn/detail-1.jpg")
+                        .thumbnailUrl("https://cdn/thumb-1.jpg")
+                        .imageOrder(1)
+                        .isThumbnail(false)
+                        .build()
+        ));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT original_url, image_url, thumbnail_url, image_order, is_thumbnail, created_at " +
+                        "FROM product_images WHERE product_id = ? ORDER BY image_order",
+                product.getId()
+        );
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0))
+                .containsEntry("original_url", "https://cdn/original-0.jpg")
+                .containsEntry("image_url", null)
+                .containsEntry("thumbnail_url", null)
+                .containsEntry("image_order", 0)
+                .containsEntry("is_thumbnail", true);
+        assertThat(rows.get(1))
+                .containsEntry("original_url", "https://cdn/original-1.jpg")
+                .containsEntry("image_url", "https://cdn/detail-1.jpg")
+                .containsEntry("thumbnail_url", "https://cdn/thumb-1.jpg")
+                .containsEntry("image_order", 1)
+                .containsEntry("is_thumbnail", false);
+        assertThat(rows).allSatisfy(row -> assertThat(row.get("created_at")).isNotNull());
+    }
+
+    @Test
+    void inserts_one_link_per_tag() {
+        Tag first = tagRepository.save(Tag.builder().name("뉴진스").build());
+        Tag second = tagRepository.save(Tag.builder().name("하니").build());
+
+        productChildRowWriter.insertTags(product.getId(), List.of(first.getId(), second.getId()));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT tag_id FROM product_tags WHERE product_id = ? ORDER BY tag_id",
+                Long.class,
+                product.getId()
+        )).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void empty_inputs_write_nothing() {
+        productChildRowWriter.insertImages(product.getId(), List.of());
+        productChildRowWriter.insertTags(product.getId(), List.of());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_images WHERE product_id = ?", Long.class, product.getId()
+        )).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_tags WHERE product_id = ?", Long.class, product.getId()
+        )).isZero();
+    }
+}
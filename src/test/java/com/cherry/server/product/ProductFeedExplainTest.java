@@ -0,0 +1,157 @@
+package com.cherry.server.product;
+
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryRow;
+import com.cherry.server.product.repository.ProductFeedQuery;
+import com.cherry.server.product.repository.ProductRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * EXPLAINs the feed query ({@link ProductFeedQuery}) for every filter and sort shape on MySQL and fails when
+ * a shape stops reading products through an index range or ref lookup, or needs a filesort where an index
+ * should give the order. A full index scan is only accepted for sort-only shapes, and only on the sort
+ * index, where the LIMIT stops it after one page.
+ * <p>
+ * Combined filters use one index: the status or category prefix with the sort columns, the other filters
+ * are checked on the rows it returns. trade_type has no index on purpose. Its IN list matches most rows,
+ * and an index led by it would need a filesort to merge the IN values, so tradeType-only shapes walk the
+ * sort index. The only shapes meant to filesort are price ranges sorted by LATEST, where the range on price
+ * and the created_at order cannot come from one index.
+ * Plans depend on data, so run it against the local database after seeding (seed.count of 100k or more):
+ * {@code FEED_EXPLAIN=true ./gradlew test --tests '*ProductFeedExplainTest'}.
+ */
+@SpringBootTest(properties = {
+        "seed.enabled=false",
+        "cache.product-list.pubsub-enabled=false",
+        "cache.likes.pubsub-enabled=false"
+})
+@ActiveProfiles("local")
+@EnabledIfEnvironmentVariable(named = "FEED_EXPLAIN", matches = "true")
+class ProductFeedExplainTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Set<String> INDEX_ACCESS = Set.of("const", "eq_ref", "ref", "range");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void every_feed_query_shape_reads_products_through_an_index() {
+        String categoryCode = jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT code FROM categories ORDER BY id LIMIT 1", String.class);
+        SoftAssertions softly = new SoftAssertions();
+
+        for (ProductSortBy sortBy : ProductSortBy.values()) {
+            for (Shape shape : shapes(sortBy, categoryCode)) {
+                Slice<ProductSummaryRow> firstPage = explain(softly, shape, null);
+                if (firstPage.hasNext()) {
+                    explain(softly, shape, firstPage.getContent().get(firstPage.getContent().size() - 1));
+                }
+            }
+        }
+        softly.assertAll();
+    }
+
+    private Slice<ProductSummaryRow> explain(SoftAssertions softly, Shape shape, ProductSummaryRow cursor) {
+        ProductSortBy sortBy = shape.condition().sortBy();
+        LocalDateTime cursorCreatedAt = cursor == null ? null : cursor.createdAt();
+        Integer cursorPrice = cursor == null ? null : cursor.price();
+        Long cursorId = cursor == null ? null : cursor.id();
+        String name = shape.name() + (cursor == null ? " (first page)" : " (cursor)");
+
+        ProductFeedQuery query = ProductFeedQuery.of(
+                shape.condition(), sortBy, cursorCreatedAt, cursorPrice, cursorId, PAGE_SIZE + 1
+        );
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.params());
+        Map<String, Object> products = plan.stream()
+                .filter(row -> "p".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+
+        softly.assertThat(products.get("key")).as("%s index, plan %s", name, plan).isNotNull();
+        String type = String.valueOf(products.get("type"));
+        if (shape.sortOnly() && "index".equals(type)) {
+            softly.assertThat(products.get("key")).as("%s full scan must walk the sort index, plan %s", name, plan)
+                    .isEqualTo(sortIndex(sortBy));
+        } else {
+            softly.assertThat(type).as("%s access type, plan %s", name, plan).isIn(INDEX_ACCESS);
+        }
+        if (shape.ordered()) {
+            softly.assertThat(plan).as("%s must not filesort", name)
+                    .noneMatch(row -> String.valueOf(row.get("Extra")).contains("Using filesort"));
+        }
+        return productRepository.findSummarySliceByFilters(
+                shape.condition(), sortBy, cursorCreatedAt, cursorPrice, cursorId, PageRequest.of(0, PAGE_SIZE)
+        );
+    }
+
+    // ordered = an index exists whose prefix is one of the equality filters followed by the sort columns.
+    // sortOnly = no filter narrows an index prefix, so the first page may walk the sort index itself.
+    private List<Shape> shapes(ProductSortBy sortBy, String categoryCode) {
+        List<Shape> shapes = new ArrayList<>();
+        shapes.add(new Shape(sortBy + " default", condition(null, null, null, null, null, sortBy), true, true));
+        shapes.add(new Shape(sortBy + " status",
+                condition(ProductStatus.SELLING, null, null, null, null, sortBy), true, false));
+        shapes.add(new Shape(sortBy + " category", condition(null, categoryCode, null, null, null, sortBy), true, false));
+        shapes.add(new Shape(sortBy + " tradeType",
+                condition(null, null, null, null, TradeType.DELIVERY, sortBy), true, true));
+        // A price range is a range on price: ordered for the price sorts, a plain range scan for LATEST.
+        shapes.add(new Shape(sortBy + " price range",
+                condition(null, null, 10000, 50000, null, sortBy), sortBy != ProductSortBy.LATEST, false));
+        shapes.add(new Shape(sortBy + " category + price range",
+                condition(null, categoryCode, 10000, 50000, null, sortBy), sortBy != ProductSortBy.LATEST, false));
+        shapes.add(new Shape(sortBy + " status + category",
+                condition(ProductStatus.SELLING, categoryCode, null, null, null, sortBy), true, false));
+        shapes.add(new Shape(sortBy + " status + tradeType",
+                condition(ProductStatus.SELLING, null, null, null, TradeType.DELIVERY, sortBy), true, false));
+        shapes.add(new Shape(sortBy + " category + tradeType",
+                condition(null, categoryCode, null, null, TradeType.DELIVERY, sortBy), true, false));
+        shapes.add(new Shape(sortBy + " status + price range",
+                condition(ProductStatus.SELLING, null, 10000, 50000, null, sortBy),
+                sortBy != ProductSortBy.LATEST, false));
+        shapes.add(new Shape(sortBy + " all filters",
+                condition(ProductStatus.SELLING, categoryCode, 10000, 50000, TradeType.DELIVERY, sortBy),
+                sortBy != ProductSortBy.LATEST, false));
+        return shapes;
+    }
+
+    private String sortIndex(ProductSortBy sortBy) {
+        return switch (sortBy) {
+            case LATEST -> "idx_products_created_at_id";
+            case LOW_PRICE, HIGH_PRICE -> "idx_products_price_id";
+        };
+    }
+
+    private ProductSearchCondition condition(
+            ProductStatus status,
+            String categoryCode,
+            Integer minPrice,
+            Integer maxPrice,
+            TradeType tradeType,
+            ProductSortBy sortBy
+    ) {
+        return new ProductSearchCondition(status, categoryCode, minPrice, maxPrice, tradeType, sortBy);
+    }
+
+    private record Shape(String name, ProductSearchCondition condition, boolean ordered, boolean sortOnly) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.cherry.server.product.dto.ProductSummaryRow;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProductFeedProjectionTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        productLikeRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category photo = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        Category album = categoryRepository.save(Category.builder()
+                .code("ALBUM")
+                .displayName("앨범")
+                .isActive(true)
+                .sortOrder(2)
+                .build());
+        for (int i = 0; i < 7; i++) {
+            productRepository.save(Product.builder()
+                    .seller(seller)
+                    .title("상품 " + i)
+                    .description("긴 설명 ".repeat(100))
+                    .price(1000 * (i % 3 + 1))
+                    .status(i == 6 ? ProductStatus.PENDING : ProductStatus.SELLING)
+                    .tradeType(i % 2 == 0 ? TradeType.DIRECT : TradeType.DELIVERY)
+                    .category(i % 2 == 0 ? photo : album)
+                    .thumbnailUrl("https://cdn/thumb-" + i + ".jpg")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projection_returns_the_same_items_as_the_entities_it_filters() {
+        for (ProductSortBy sortBy : ProductSortBy.values()) {
+            assertSamePage(new ProductSearchCondition(null, null, null, null, null, sortBy), sortBy);
+            assertSamePage(new ProductSearchCondition(null, "PHOTO", null, null, null, sortBy), sortBy);
+            assertSamePage(new ProductSearchCondition(null, null, 2000, 3000, TradeType.DELIVERY, sortBy), sortBy);
+        }
+    }
+
+    @Test
+    void keyset_pages_visit_every_item_once_in_sort_order() {
+        for (ProductSortBy sortBy : ProductSortBy.values()) {
+            ProductSearchCondition condition = new ProductSearchCondition(null, null, null, null, null, sortBy);
+            List<Long> walked = new ArrayList<>();
+            ProductSummaryRow cursor = null;
+            Slice<ProductSummaryRow> page;
+            do {
+                page = productRepository.findSummarySliceByFilters(
+                        condition,
+                        sortBy,
+                        cursor == null ? null : cursor.createdAt(),
+                        cursor == null ? null : cursor.price(),
+                        cursor == null ? null : cursor.id(),
+                        PageRequest.of(0, 2)
+                );
+                page.getContent().forEach(row -> walked.add(row.id()));
+                cursor = page.getContent().isEmpty() ? null : page.getContent().get(page.getContent().size() - 1);
+            } while (page.hasNext());
+
+            List<Long> expected = productRepository.findSummarySliceByFilters(
+                    condition, sortBy, null, null, null, PageRequest.of(0, 100)
+            ).getContent().stream().map(ProductSummaryRow::id).toList();
+            assertThat(walked).as(sortBy.name()).hasSize(6).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void projection_does_not_put_products_into_the_persistence_context() {
+        Slice<ProductSummaryRow> slice = productRepository.findSummarySliceByFilters(
+                new ProductSearchCondition(null, null, null, null, null, ProductSortBy.LATEST),
+                ProductSortBy.LATEST,
+                null,
+                null,
+                null,
+                PageRequest.of(0, 3)
+        );
+
+        assertThat(slice.getContent()).hasSize(3);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    // The expected page is filtered and ordered in memory from every entity, independently of the feed SQL.
+    private void assertSamePage(ProductSearchCondition condition, ProductSortBy sortBy) {
+        List<ProductSummaryResponse> fromRows = productRepository.findSummarySliceByFilters(
+                        condition, sortBy, null, null, null, PageRequest.of(0, 4)).getContent().stream()
+                .map(row -> ProductSummaryResponse.from(row, false, List.of()))
+                .toList();
+        List<ProductSummaryResponse> fromEntities = productRepository.findAll().stream()
+                .filter(product -> matches(product, condition))
+                .sorted(order(sortBy))
+                .limit(4)
+                .map(product -> ProductSummaryResponse.from(product, false, product.getLikeCount(), List.of()))
+                .toList();
+        entityManager.clear();
+
+        assertThat(fromRows).isEqualTo(fromEntities);
+    }
+
+    private boolean matches(Product product, ProductSearchCondition condition) {
+        boolean status = condition.status() == null
+                ? product.getStatus() != ProductStatus.PENDING
+                : product.getStatus() == condition.status();
+        boolean tradeType = condition.tradeType() == null
+                || product.getTradeType() == condition.tradeType()
+                || product.getTradeType() == TradeType.BOTH;
+        return status
+                && tradeType
+                && (condition.categoryCode() == null || condition.categoryCode().equals(product.getCategory().getCode()))
+                && (condition.minPrice() == null || product.getPrice() >= condition.minPrice())
+                && (condition.maxPrice() == null || product.getPrice() <= condition.maxPrice());
+    }
+
+    private Comparator<Product> order(ProductSortBy sortBy) {
+        return switch (sortBy) {
+            case LATEST -> Comparator.comparing(Product::getCreatedAt).thenComparing(Product::getId).reversed();
+            case LOW_PRICE -> Comparator.comparing(Product::getPrice).thenComparing(Product::getId);
+            case HIGH_PRICE -> Comparator.comparing(Product::getPrice).thenComparing(Product::getId).reversed();
+        };
+    }
+}
@@ -17,6 +17,7 @@ import com.cherry.server.product.repository.ProductTagRepository;
 import com.cherry.server.product.repository.TagRepository;
 import com.cherry.server.user.domain.User;
 import com.cherry.server.user.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -171,5 +172,57 @@ class ProductFiltersApiTest {
                 .andExpect(jsonPath("$.items[0].price").value(100))
                 .andExpect(jsonPath("$.items[1].price").value(300));
     }
-}
 
+    @Test
+    void get_products_rejects_cursor_issued_for_other_filters() throws Exception {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        for (int price : new int[]{100, 200}) {
+            productRepository.save(Product.builder()
+                    .seller(seller)
+                    .title("상품 " + price)
+                    .description("desc")
+                    .price(price)
+                    .status(ProductStatus.SELLING)
+                    .tradeType(TradeType.DIRECT)
+                    .category(category)
+                    .build());
+        }
+
+        String body = mockMvc.perform(get("/products")
+                        .queryParam("categoryCode", "PHOTO")
+                        .queryParam("sortBy", "LOW_PRICE")
+                        .queryParam("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(body, "$.nextCursor");
+
+        mockMvc.perform(get("/products")
+                        .queryParam("categoryCode", "PHOTO")
+                        .queryParam("sortBy", "LOW_PRICE")
+                        .queryParam("limit", "1")
+                        .queryParam("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].price").value(200));
+        mockMvc.perform(get("/products")
+                        .queryParam("sortBy", "LOW_PRICE")
+                        .queryParam("limit", "1")
+                        .queryParam("cursor", nextCursor))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products")
+                        .queryParam("categoryCode", "PHOTO")
+                        .queryParam("sortBy", "HIGH_PRICE")
+                        .queryParam("limit", "1")
+                        .queryParam("cursor", nextCursor))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -8,7 +8,6 @@ import com.cherry.server.product.domain.ProductImage;
 import com.cherry.server.product.domain.ProductStatus;
 import com.cherry.server.product.domain.TradeType;
 import com.cherry.server.product.dto.ProductDetailResponse;
-import com.cherry.server.product.dto.ProductSummaryResponse;
 import com.cherry.server.user.domain.User;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -61,39 +60,22 @@ class ProductImageMappingTest {
     }
 
     @Test
-    void summary_prefers_thumbnail_url_when_present() {
-        User seller = User.builder()
-                .email("seller@example.com")
-                .nickname("seller")
-                .password("pw")
-                .build();
-        Category category = Category.builder()
-                .code("PHOTO")
-                .displayName("포토카드")
-                .isActive(true)
-                .sortOrder(1)
-                .build();
-        Product product = Product.builder()
-                .seller(seller)
-                .title("title")
-                .description("desc")
-                .price(1000)
-                .status(ProductStatus.SELLING)
-                .tradeType(TradeType.DIRECT)
-                .category(category)
-                .build();
+    void list_thumbnail_falls_back_to_detail_then_original() {
+        assertThat(image("https://cdn/thumb.jpg", "https://cdn/detail.jpg").listThumbnailUrl())
+                .isEqualTo("https://cdn/thumb.jpg");
+        assertThat(image(null, "https://cdn/detail.jpg").listThumbnailUrl())
+                .isEqualTo("https://cdn/detail.jpg");
+        assertThat(image(null, null).listThumbnailUrl())
+                .isEqualTo("https://cdn/original.jpg");
+    }
 
-        ProductImage image = ProductImage.builder()
-                .product(product)
-                .imageUrl("https://cdn/detail.jpg")
-                .thumbnailUrl("https://cdn/thumb.jpg")
+    private ProductImage image(String thumbnailUrl, String imageUrl) {
+        return ProductImage.builder()
+                .originalUrl("https://cdn/original.jpg")
+                .imageUrl(imageUrl)
+                .thumbnailUrl(thumbnailUrl)
                 .imageOrder(0)
                 .isThumbnail(true)
                 .build();
-        product.getImages().add(image);
-
-        ProductSummaryResponse response = ProductSummaryResponse.from(product, false, 0L, List.of());
-
-        assertThat(response.thumbnailUrl()).isEqualTo("https://cdn/thumb.jpg");
     }
 }
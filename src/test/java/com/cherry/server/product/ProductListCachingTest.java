@@ -1,21 +1,27 @@
 package com.cherry.server.product;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.cherry.server.product.cache.ProductCacheInvalidator;
 import com.cherry.server.product.domain.Category;
 import com.cherry.server.product.domain.Product;
 import com.cherry.server.product.domain.ProductStatus;
 import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductListResponse;
 import com.cherry.server.product.dto.ProductSearchCondition;
 import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.ProductSummaryResponse;
 import com.cherry.server.product.repository.CategoryRepository;
 import com.cherry.server.product.repository.ProductRepository;
 import com.cherry.server.user.domain.User;
@@ -24,6 +30,7 @@ import com.cherry.server.wish.domain.ProductLike;
 import com.cherry.server.wish.repository.ProductLikeRepository;
 import com.cherry.server.wish.service.WishService;
 import com.cherry.server.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,8 +39,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +67,12 @@ class ProductListCachingTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -82,6 +98,11 @@ class ProductListCachingTest {
             cacheStore.put(invocation.getArgument(0), invocation.getArgument(1));
             return null;
         }).when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(valueOperations.increment(anyString())).thenAnswer(invocation -> Long.parseLong(cacheStore.merge(
+                invocation.getArgument(0),
+                "1",
+                (current, one) -> Long.toString(Long.parseLong(current) + 1)
+        )));
     }
 
     @Test
@@ -113,10 +134,155 @@ class ProductListCachingTest {
                 null, null, null, null, null, ProductSortBy.LATEST
         );
 
-        productService.getProducts(null, 20, null, condition, ProductSortBy.LATEST);
-        productService.getProducts(null, 20, null, condition, ProductSortBy.LATEST);
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+
+        verify(productRepository, times(1)).findSummarySliceByFilters(
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                any()
+        );
+    }
 
-        verify(productRepository, times(1)).findSliceByFilters(
+    @Test
+    void get_products_serves_repeat_calls_from_near_cache_without_redis() {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        productRepository.save(Product.builder()
+                .seller(seller)
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, null, null, null, null, ProductSortBy.LATEST
+        );
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+        clearInvocations(valueOperations);
+
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void invalidation_bumps_generation_without_scanning_keys() {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        productRepository.save(Product.builder()
+                .seller(seller)
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, null, null, null, null, ProductSortBy.LATEST
+        );
+        for (int limit = 1; limit <= 20; limit++) {
+            productService.getProductsJson(null, limit, null, condition, ProductSortBy.LATEST);
+        }
+        clearInvocations(productRepository, valueOperations, stringRedisTemplate);
+
+        productCacheInvalidator.invalidateProductListCache();
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+
+        verify(valueOperations, times(1)).increment("products:list:version");
+        verify(stringRedisTemplate, times(1)).convertAndSend(ProductCacheInvalidator.INVALIDATION_CHANNEL, "list");
+        verify(stringRedisTemplate, never()).keys(anyString());
+        verify(stringRedisTemplate, never()).delete(any(Collection.class));
+        verify(productRepository, times(1)).findSummarySliceByFilters(
+                any(),
+                any(),
+                any(),
+                any(),
+                any(),
+                any()
+        );
+    }
+
+    @Test
+    void like_evicts_only_the_liked_product_summary() throws Exception {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        User liker = userRepository.save(User.builder()
+                .email("liker@example.com")
+                .nickname("liker")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .seller(seller)
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, null, null, null, null, ProductSortBy.LATEST
+        );
+        productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST);
+        clearInvocations(productRepository, valueOperations, stringRedisTemplate);
+
+        wishService.addLike(liker.getId(), product.getId());
+        ProductListResponse response = objectMapper.readValue(
+                productService.getProductsJson(null, 20, null, condition, ProductSortBy.LATEST),
+                ProductListResponse.class
+        );
+
+        assertThat(response.items()).extracting(ProductSummaryResponse::likeCount).containsExactly(1L);
+        verify(valueOperations, never()).increment("products:list:version");
+        verify(stringRedisTemplate, times(1)).execute(
+                any(RedisScript.class),
+                eq(List.of(
+                        "products:summary-generation",
+                        "products:summary-evicted:" + product.getId(),
+                        "products:summary:" + product.getId()
+                )),
+                anyString()
+        );
+        verify(stringRedisTemplate, times(1))
+                .convertAndSend(ProductCacheInvalidator.INVALIDATION_CHANNEL, "summary:" + product.getId());
+        verify(productRepository, never()).findSummarySliceByFilters(
                 any(),
                 any(),
                 any(),
@@ -124,6 +290,7 @@ class ProductListCachingTest {
                 any(),
                 any()
         );
+        verify(productRepository, times(1)).findSummaryRowsByIdIn(List.of(product.getId()));
     }
 
     @Test
@@ -0,0 +1,193 @@
+package com.cherry.server.product;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductCreateRequest;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.product.repository.ProductTagRepository;
+import com.cherry.server.product.repository.TagRepository;
+import com.cherry.server.product.search.ProductSearchIndexer;
+import com.cherry.server.product.service.ProductService;
+import com.cherry.server.product.service.TagResolver;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductSearchApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchIndexer productSearchIndexer;
+
+    @Autowired
+    private TagResolver tagResolver;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User seller;
+    private Category photo;
+    private Category album;
+
+    @BeforeEach
+    void setUp() {
+        productTagRepository.deleteAll();
+        productRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagResolver.evictAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        photo = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        album = categoryRepository.save(Category.builder()
+                .code("ALBUM")
+                .displayName("앨범")
+                .isActive(true)
+                .sortOrder(2)
+                .build());
+    }
+
+    @Test
+    void finds_new_products_by_title_description_and_tags() throws Exception {
+        Long titled = create("뉴진스 하니 포카", "미개봉", photo, 1000, List.of());
+        Long described = create("포카 양도", "뉴진스 하니 버니즈 에디션", photo, 2000, List.of());
+        Long tagged = create("미니 앨범", "풀구성", album, 3000, List.of("뉴진스"));
+        create("아이브 포카", "미개봉", photo, 4000, List.of());
+
+        mockMvc.perform(get("/products/search").queryParam("q", "뉴진스"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].id").value(tagged))
+                .andExpect(jsonPath("$.items[0].tags[0]").value("뉴진스"))
+                .andExpect(jsonPath("$.items[1].id").value(described))
+                .andExpect(jsonPath("$.items[2].id").value(titled));
+        mockMvc.perform(get("/products/search").queryParam("q", "뉴진스 하니").queryParam("sortBy", "HIGH_PRICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id").value(described));
+        mockMvc.perform(get("/products/search").queryParam("q", "뉴진스").queryParam("categoryCode", "ALBUM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(tagged));
+    }
+
+    @Test
+    void rebuild_indexes_existing_products_and_drops_deleted_ones() throws Exception {
+        Long kept = create("르세라핌 앨범", "desc", album, 1000, List.of());
+        Long deleted = create("르세라핌 포카", "desc", photo, 1000, List.of());
+        // A bulk delete skips the entity listener, so only the rebuild notices it.
+        productRepository.deleteAllByIdInBatch(List.of(deleted));
+
+        productSearchIndexer.rebuild();
+
+        mockMvc.perform(get("/products/search").queryParam("q", "르세라핌"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(kept));
+    }
+
+    @Test
+    void reindex_message_from_another_node_reloads_the_product() throws Exception {
+        Long deleted = create("스테이씨 포카", "desc", photo, 1000, List.of());
+        productRepository.deleteAllByIdInBatch(List.of(deleted));
+
+        productSearchIndexer.onReindexMessage("other-node:" + deleted);
+
+        mockMvc.perform(get("/products/search").queryParam("q", "스테이씨"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    void feed_filters_by_all_or_any_tag() throws Exception {
+        Long both = create("하니 포카", "desc", photo, 1000, List.of("뉴진스", "하니"));
+        Long groupOnly = create("단체 포카", "desc", photo, 2000, List.of("뉴진스"));
+        Long other = create("원영 포카", "desc", photo, 3000, List.of("아이브", "장원영"));
+
+        mockMvc.perform(get("/products").queryParam("tags", "뉴진스", "하니"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(both));
+        mockMvc.perform(get("/products")
+                        .queryParam("tags", "하니", "아이브")
+                        .queryParam("tagMatch", "ANY")
+                        .queryParam("sortBy", "LOW_PRICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id").value(both))
+                .andExpect(jsonPath("$.items[1].id").value(other));
+        mockMvc.perform(get("/products").queryParam("tags", "뉴진스").queryParam("maxPrice", "1500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(both));
+
+        String firstPage = mockMvc.perform(get("/products").queryParam("tags", "뉴진스").queryParam("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(groupOnly))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/products")
+                        .queryParam("tags", "뉴진스")
+                        .queryParam("limit", "1")
+                        .queryParam("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(both))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void rejects_blank_query() throws Exception {
+        mockMvc.perform(get("/products/search").queryParam("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long create(String title, String description, Category category, int price, List<String> tags) {
+        return productService.createProduct(seller.getId(), new ProductCreateRequest(
+                title, price, description, category.getId(), TradeType.DIRECT, List.of(), tags
+        )).productId();
+    }
+}
@@ -0,0 +1,157 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.global.common.PageCursor;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductSearchCondition;
+import com.cherry.server.product.dto.ProductSortBy;
+import com.cherry.server.product.dto.TagMatch;
+import com.cherry.server.product.search.ProductSearchIndex;
+import com.cherry.server.product.search.ProductTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex(new SimpleMeterRegistry());
+
+    @Test
+    void tokenizer_splits_hangul_into_bigrams_and_keeps_latin_words() {
+        assertThat(ProductTokenizer.tokenize("뉴진스 포카 BTS 2nd앨범!"))
+                .containsExactly("뉴진", "진스", "포카", "bts", "2nd", "앨범");
+        assertThat(ProductTokenizer.tokenize("책")).containsExactly("책");
+        assertThat(ProductTokenizer.tokenize("  ")).isEmpty();
+        assertThat(ProductTokenizer.indexTerms("중고책")).containsExactly("중고", "고책", "중", "고", "책");
+    }
+
+    @Test
+    void single_syllable_query_matches_longer_words() {
+        index.put(document(1, "중고책 팝니다", ProductStatus.SELLING, 1000, 1));
+        index.put(document(2, "원목 책상", ProductStatus.SELLING, 2000, 2));
+        index.put(document(3, "포토카드", ProductStatus.SELLING, 3000, 3));
+
+        assertThat(ids(search("책", ProductSortBy.LATEST, null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(search("책상", ProductSortBy.LATEST, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void query_matches_products_containing_every_term() {
+        index.put(document(1, "뉴진스 하니 포토카드", ProductStatus.SELLING, 1000, 1));
+        index.put(document(2, "뉴진스 앨범", ProductStatus.SELLING, 2000, 2));
+        index.put(document(3, "아이브 포토카드", ProductStatus.SELLING, 3000, 3));
+
+        assertThat(ids(search("뉴진스", ProductSortBy.LATEST, null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(search("뉴진스 포토카드", ProductSortBy.LATEST, null, 10))).containsExactly(1L);
+        assertThat(ids(search("진스포", ProductSortBy.LATEST, null, 10))).isEmpty();
+        assertThat(ids(search("블랙핑크", ProductSortBy.LATEST, null, 10))).isEmpty();
+    }
+
+    @Test
+    void reindexing_replaces_terms_and_remove_drops_the_product() {
+        index.put(document(1, "뉴진스 앨범", ProductStatus.SELLING, 1000, 1));
+        index.put(document(1, "아이브 앨범", ProductStatus.SELLING, 1000, 1));
+
+        assertThat(ids(search("뉴진스", ProductSortBy.LATEST, null, 10))).isEmpty();
+        assertThat(ids(search("아이브", ProductSortBy.LATEST, null, 10))).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(ids(search("앨범", ProductSortBy.LATEST, null, 10))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void filters_are_applied_inside_the_index() {
+        index.put(document(1, "포토카드", ProductStatus.SELLING, 1000, 1));
+        index.put(document(2, "포토카드", ProductStatus.PENDING, 1000, 2));
+        index.put(document(3, "포토카드", ProductStatus.SOLD, 5000, 3));
+
+        assertThat(ids(index.search(ProductTokenizer.tokenize("포토카드"),
+                new ProductSearchCondition(null, null, null, null, null, ProductSortBy.LATEST),
+                ProductSortBy.LATEST, null, 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.search(ProductTokenizer.tokenize("포토카드"),
+                new ProductSearchCondition(null, null, null, 2000, null, ProductSortBy.LATEST),
+                ProductSortBy.LATEST, null, 10))).containsExactly(1L);
+        assertThat(ids(index.search(ProductTokenizer.tokenize("포토카드"),
+                new ProductSearchCondition(null, "OTHER", null, null, null, ProductSortBy.LATEST),
+                ProductSortBy.LATEST, null, 10))).isEmpty();
+    }
+
+    @Test
+    void cursor_pages_visit_every_hit_once_in_sort_order() {
+        for (int i = 1; i <= 7; i++) {
+            index.put(document(i, "포토카드 " + i, ProductStatus.SELLING, 1000 * (i % 3), i % 4));
+        }
+        for (ProductSortBy sortBy : ProductSortBy.values()) {
+            List<Long> walked = new ArrayList<>();
+            PageCursor cursor = null;
+            ProductSearchIndex.Hits hits;
+            do {
+                hits = search("포토카드", sortBy, cursor, 3);
+                walked.addAll(ids(hits));
+                ProductSearchIndex.Document last = hits.documents().get(hits.documents().size() - 1);
+                cursor = new PageCursor(ProductSearchIndex.sortKey(last, sortBy), last.id());
+            } while (hits.hasNext());
+
+            assertThat(walked).as(sortBy.name()).containsExactlyElementsOf(ids(search("포토카드", sortBy, null, 100)));
+            assertThat(walked).as(sortBy.name()).hasSize(7).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void tag_postings_follow_reindexing_and_respect_the_other_filters() {
+        index.putAll(List.of(
+                tagged(1, 1000, "뉴진스", "하니"),
+                tagged(2, 2000, "뉴진스"),
+                tagged(3, 3000, "아이브")
+        ));
+        index.put(tagged(2, 2000, "뉴진스", "하니"));
+        index.put(tagged(3, 3000, "아이브", "하니"));
+
+        assertThat(ids(tagged(List.of("뉴진스", "하니"), TagMatch.ALL, null))).containsExactly(2L, 1L);
+        assertThat(ids(tagged(List.of("아이브", "없는태그"), TagMatch.ANY, null))).containsExactly(3L);
+        assertThat(ids(tagged(List.of("아이브", "없는태그"), TagMatch.ALL, null))).isEmpty();
+        assertThat(ids(tagged(List.of("하니"), TagMatch.ALL, 2500))).containsExactly(2L, 1L);
+
+        index.remove(2);
+        assertThat(ids(tagged(List.of("뉴진스"), TagMatch.ALL, null))).containsExactly(1L);
+    }
+
+    private ProductSearchIndex.Hits search(String query, ProductSortBy sortBy, PageCursor cursor, int limit) {
+        return index.search(
+                ProductTokenizer.tokenize(query),
+                new ProductSearchCondition(null, null, null, null, null, sortBy),
+                sortBy,
+                cursor,
+                limit
+        );
+    }
+
+    private ProductSearchIndex.Document document(long id, String title, ProductStatus status, int price, long createdAtMicros) {
+        Set<String> terms = ProductTokenizer.indexTerms(title);
+        return new ProductSearchIndex.Document(
+                id, status, TradeType.DIRECT, "PHOTO", price, createdAtMicros, terms.toArray(String[]::new), new String[0]
+        );
+    }
+
+    private ProductSearchIndex.Hits tagged(List<String> tags, TagMatch tagMatch, Integer maxPrice) {
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, null, null, maxPrice, null, ProductSortBy.LATEST, tags, tagMatch
+        );
+        return index.tagged(condition, ProductSortBy.LATEST, null, 10);
+    }
+
+    private ProductSearchIndex.Document tagged(long id, int price, String... tags) {
+        return new ProductSearchIndex.Document(
+                id, ProductStatus.SELLING, TradeType.DIRECT, "PHOTO", price, id, new String[0], tags
+        );
+    }
+
+    private List<Long> ids(ProductSearchIndex.Hits hits) {
+        return hits.documents().stream().map(ProductSearchIndex.Document::id).toList();
+    }
+}
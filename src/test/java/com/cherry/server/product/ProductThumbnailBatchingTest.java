@@ -0,0 +1,157 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductImage;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductListResponse;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductImageRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.product.service.ProductService;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.domain.ProductLike;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.service.WishService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ProductThumbnailBatchingTest {
+
+    private static final int PRODUCT_COUNT = 12;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    private User seller;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .seller(seller)
+                    .title("상품 " + i)
+                    .description("desc")
+                    .price(1000 + i)
+                    .status(ProductStatus.SELLING)
+                    .tradeType(TradeType.DIRECT)
+                    .category(category)
+                    .thumbnailUrl("https://cdn/thumb-" + i + ".jpg")
+                    .build());
+            productImageRepository.save(ProductImage.builder()
+                    .product(product)
+                    .originalUrl("https://cdn/original-" + i + ".jpg")
+                    .thumbnailUrl("https://cdn/thumb-" + i + ".jpg")
+                    .imageOrder(0)
+                    .isThumbnail(true)
+                    .build());
+            productImageRepository.save(ProductImage.builder()
+                    .product(product)
+                    .originalUrl("https://cdn/detail-" + i + ".jpg")
+                    .imageOrder(1)
+                    .isThumbnail(false)
+                    .build());
+            productLikeRepository.save(ProductLike.create(seller, product));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void my_products_page_costs_the_same_statements_regardless_of_size() {
+        productService.getMyProducts(seller.getId(), null, 2);
+
+        long small = countStatements(() -> productService.getMyProducts(seller.getId(), null, 2));
+        long large = countStatements(() -> productService.getMyProducts(seller.getId(), null, 10));
+
+        // products, tags
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+        ProductListResponse page = productService.getMyProducts(seller.getId(), null, 10);
+        assertThat(page.items()).hasSize(10)
+                .allSatisfy(item -> assertThat(item.thumbnailUrl()).startsWith("https://cdn/thumb-"));
+    }
+
+    @Test
+    void likes_page_costs_the_same_statements_regardless_of_size() {
+        long small = countStatements(() -> wishService.getMyLikes(seller.getId(), null, 2));
+        long large = countStatements(() -> wishService.getMyLikes(seller.getId(), null, 10));
+
+        // user, likes with product, seller and category
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+        assertThat(wishService.getMyLikes(seller.getId(), null, 10).items())
+                .extracting(ProductSummaryResponse::thumbnailUrl)
+                .allMatch(url -> url.startsWith("https://cdn/thumb-"));
+    }
+
+    private long countStatements(Supplier<ProductListResponse> page) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        page.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void cleanUp() {
+        productLikeRepository.deleteAll();
+        productImageRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
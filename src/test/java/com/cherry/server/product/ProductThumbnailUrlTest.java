@@ -0,0 +1,164 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductImage;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductCreateRequest;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductImageRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.product.service.ProductService;
+import com.cherry.server.product.service.ProductThumbnailBackfill;
+import com.cherry.server.upload.ImageCallbackService;
+import com.cherry.server.upload.dto.ImageCallbackRequest;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "storage.base-url=https://cdn.example.com")
+class ProductThumbnailUrlTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ImageCallbackService imageCallbackService;
+
+    @Autowired
+    private ProductThumbnailBackfill productThumbnailBackfill;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    private User seller;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        seller = userRepository.save(User.builder()
+                .email("thumb-" + suffix + "@example.com")
+                .nickname("thumb-" + suffix)
+                .password("pw")
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .code("THUMB-" + suffix)
+                .displayName("썸네일")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productLikeRepository.deleteAll();
+        productImageRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void create_and_callback_keep_products_thumbnail_url_current() {
+        String firstKey = "products/original/" + UUID.randomUUID() + ".jpg";
+        String secondKey = "products/original/" + UUID.randomUUID() + ".jpg";
+        Long productId = productService.createProduct(seller.getId(), new ProductCreateRequest(
+                "title",
+                1000,
+                "desc",
+                category.getId(),
+                TradeType.DIRECT,
+                List.of(firstKey, secondKey),
+                List.of()
+        )).productId();
+
+        assertThat(productRepository.findById(productId).orElseThrow().getThumbnailUrl())
+                .isEqualTo("https://cdn.example.com/" + firstKey);
+
+        imageCallbackService.apply(new ImageCallbackRequest(
+                secondKey, "https://cdn.example.com/detail/2.jpg", "https://cdn.example.com/thumb/2.jpg", 1, false
+        ));
+        assertThat(productRepository.findById(productId).orElseThrow().getThumbnailUrl())
+                .isEqualTo("https://cdn.example.com/" + firstKey);
+
+        imageCallbackService.apply(new ImageCallbackRequest(
+                firstKey, "https://cdn.example.com/detail/1.jpg", "https://cdn.example.com/thumb/1.jpg", 0, true
+        ));
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getThumbnailUrl()).isEqualTo("https://cdn.example.com/thumb/1.jpg");
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.SELLING);
+    }
+
+    @Test
+    void backfill_fills_only_products_without_thumbnail_url() {
+        Product legacy = saveProduct(null);
+        saveThumbnail(legacy, "https://cdn.example.com/thumb/legacy.jpg");
+        Product current = saveProduct("https://cdn.example.com/thumb/current.jpg");
+        saveThumbnail(current, "https://cdn.example.com/thumb/other.jpg");
+        Product withoutImages = saveProduct(null);
+
+        productThumbnailBackfill.backfill();
+
+        assertThat(productRepository.findById(legacy.getId()).orElseThrow().getThumbnailUrl())
+                .isEqualTo("https://cdn.example.com/thumb/legacy.jpg");
+        assertThat(productRepository.findById(current.getId()).orElseThrow().getThumbnailUrl())
+                .isEqualTo("https://cdn.example.com/thumb/current.jpg");
+        assertThat(productRepository.findById(withoutImages.getId()).orElseThrow().getThumbnailUrl())
+                .isNull();
+        assertThat(productThumbnailBackfill.backfill()).isZero();
+    }
+
+    private Product saveProduct(String thumbnailUrl) {
+        return productRepository.save(Product.builder()
+                .seller(seller)
+                .title("title")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .thumbnailUrl(thumbnailUrl)
+                .build());
+    }
+
+    private void saveThumbnail(Product product, String thumbnailUrl) {
+        productImageRepository.save(ProductImage.builder()
+                .product(product)
+                .originalUrl("https://cdn.example.com/original/" + UUID.randomUUID() + ".jpg")
+                .imageUrl("https://cdn.example.com/detail/" + product.getId() + ".jpg")
+                .thumbnailUrl(thumbnailUrl)
+                .imageOrder(0)
+                .isThumbnail(true)
+                .build());
+    }
+}
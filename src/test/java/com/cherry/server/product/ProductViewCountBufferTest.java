@@ -0,0 +1,45 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.repository.ProductViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ProductViewCountBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductViewCountBuffer buffer = new ProductViewCountBuffer(meterRegistry);
+
+    @Test
+    void drain_returns_counts_and_resets_buffer() throws InterruptedException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                long productId = i % 2 == 0 ? 1L : 2L;
+                executor.submit(() -> buffer.increment(productId));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(meterRegistry.get("trending.views.pending").gauge().value()).isEqualTo(1000.0);
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 500L, 2L, 500L));
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(meterRegistry.get("trending.views.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void restore_merges_failed_flush_back_into_buffer() {
+        buffer.increment(1L);
+        Map<Long, Long> failed = buffer.drain();
+        buffer.increment(1L);
+
+        buffer.restore(failed);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L));
+    }
+}
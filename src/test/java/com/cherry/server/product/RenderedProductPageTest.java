@@ -0,0 +1,104 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cherry.server.product.cache.RenderedProductPage;
+import com.cherry.server.product.cache.RenderedProductSummary;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.CategoryResponse;
+import com.cherry.server.product.dto.ProductDetailResponse;
+import com.cherry.server.product.dto.ProductListResponse;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RenderedProductPageTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void indexes_item_ids_in_page_order() throws IOException {
+        RenderedProductPage page = render(List.of(item(3L, "a", false), item(1L, "b", false)), "cursor");
+
+        assertThat(page.productIds()).containsExactly(3L, 1L);
+        assertThat(page.isEmpty()).isFalse();
+    }
+
+    @Test
+    void patches_only_liked_items_and_keeps_valid_json() throws IOException {
+        RenderedProductPage page = render(List.of(
+                item(1L, "\"isLiked\":false", false),
+                item(2L, "second", false),
+                item(3L, "third", false)
+        ), null);
+
+        byte[] patched = page.withLikedFlags(Set.of(2L, 99L));
+
+        ProductListResponse response = objectMapper.readValue(patched, ProductListResponse.class);
+        assertThat(response.items()).extracting(ProductSummaryResponse::isLiked).containsExactly(false, true, false);
+        assertThat(response.items().get(0).title()).isEqualTo("\"isLiked\":false");
+        assertThat(objectMapper.readValue(page.json(), ProductListResponse.class).items())
+                .extracting(ProductSummaryResponse::isLiked)
+                .containsOnly(false);
+    }
+
+    @Test
+    void returns_shared_bytes_when_nothing_is_liked() throws IOException {
+        RenderedProductPage page = render(List.of(item(1L, "a", false)), null);
+
+        assertThat(page.withLikedFlags(Set.of())).isSameAs(page.json());
+        assertThat(page.withLikedFlags(Set.of(5L))).isSameAs(page.json());
+    }
+
+    @Test
+    void assembles_the_same_bytes_as_serializing_the_page() throws IOException {
+        List<ProductSummaryResponse> items = List.of(item(3L, "a", false), item(1L, "b\"c", false));
+        List<RenderedProductSummary> fragments = List.of(
+                RenderedProductSummary.of(objectMapper.writeValueAsBytes(items.get(0)), objectMapper.getFactory()),
+                RenderedProductSummary.of(objectMapper.writeValueAsBytes(items.get(1)), objectMapper.getFactory())
+        );
+
+        RenderedProductPage page = RenderedProductPage.assemble(fragments, "2026-01-05T12:34:56_1");
+
+        assertThat(page.json()).isEqualTo(objectMapper.writeValueAsBytes(
+                new ProductListResponse(items, "2026-01-05T12:34:56_1")
+        ));
+        assertThat(RenderedProductPage.assemble(List.of(), null).json())
+                .isEqualTo(objectMapper.writeValueAsBytes(new ProductListResponse(List.of(), null)));
+        ProductListResponse liked = objectMapper.readValue(page.withLikedFlags(Set.of(1L)), ProductListResponse.class);
+        assertThat(liked.items()).extracting(ProductSummaryResponse::isLiked).containsExactly(false, true);
+    }
+
+    @Test
+    void rejects_pages_with_liked_items() {
+        assertThatThrownBy(() -> render(List.of(item(1L, "a", true)), null))
+                .isInstanceOf(IOException.class);
+    }
+
+    private RenderedProductPage render(List<ProductSummaryResponse> items, String nextCursor) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(new ProductListResponse(items, nextCursor));
+        return RenderedProductPage.of(json, objectMapper.getFactory());
+    }
+
+    private ProductSummaryResponse item(Long id, String title, boolean isLiked) {
+        return ProductSummaryResponse.builder()
+                .id(id)
+                .title(title)
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(new CategoryResponse(10L, "PHOTO", "포토카드"))
+                .seller(new ProductDetailResponse.SellerResponse(20L, "seller"))
+                .createdAt(LocalDateTime.of(2026, 1, 5, 12, 34, 56))
+                .tags(List.of("tag"))
+                .isLiked(isLiked)
+                .likeCount(3L)
+                .build();
+    }
+}
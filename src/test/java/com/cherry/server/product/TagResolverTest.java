@@ -0,0 +1,66 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Tag;
+import com.cherry.server.product.repository.ProductTagRepository;
+import com.cherry.server.product.repository.TagRepository;
+import com.cherry.server.product.service.TagResolver;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TagResolverTest {
+
+    @Autowired
+    private TagResolver tagResolver;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @BeforeEach
+    void setUp() {
+        productTagRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagResolver.evictAll();
+    }
+
+    @Test
+    void reuses_existing_tags_and_creates_the_missing_ones_once() {
+        Tag existing = tagRepository.save(Tag.builder().name("뉴진스").build());
+
+        Map<String, Long> ids = tagResolver.resolveIds(Arrays.asList(" 뉴진스 ", "하니", "하니", "", null, "포카"));
+
+        assertThat(ids).containsOnlyKeys("뉴진스", "하니", "포카");
+        assertThat(ids.keySet()).containsExactly("뉴진스", "하니", "포카");
+        assertThat(ids.get("뉴진스")).isEqualTo(existing.getId());
+        assertThat(tagRepository.count()).isEqualTo(3);
+        assertThat(tagRepository.findByName("하니").orElseThrow().getId()).isEqualTo(ids.get("하니"));
+    }
+
+    @Test
+    void resolving_again_returns_the_same_ids_without_new_rows() {
+        Map<String, Long> first = tagResolver.resolveIds(List.of("아이브", "장원영"));
+        Map<String, Long> second = tagResolver.resolveIds(List.of("장원영", "아이브", "레이"));
+
+        assertThat(second.get("아이브")).isEqualTo(first.get("아이브"));
+        assertThat(second.get("장원영")).isEqualTo(first.get("장원영"));
+        assertThat(tagRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void blank_names_resolve_to_nothing() {
+        assertThat(tagResolver.resolveIds(Arrays.asList(" ", null))).isEmpty();
+        assertThat(tagRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,47 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.cherry.server.product.trending.TrendingBuckets;
+import com.cherry.server.product.trending.TrendingProperties;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class TrendingBucketsTest {
+
+    @Test
+    void window_covers_current_hour_and_previous_buckets() {
+        TrendingBuckets buckets = new TrendingBuckets(properties(3, null));
+
+        assertThat(buckets.windowKeys(Instant.parse("2026-01-05T00:15:00Z"))).containsExactly(
+                "trending:views:h:2026010500",
+                "trending:views:h:2026010423",
+                "trending:views:h:2026010422"
+        );
+        assertThat(buckets.bucketTtl()).isEqualTo(Duration.ofHours(4));
+    }
+
+    @Test
+    void weights_are_flat_without_decay() {
+        TrendingBuckets buckets = new TrendingBuckets(properties(24, null));
+
+        assertThat(buckets.weights()).hasSize(24).containsOnly(1.0);
+    }
+
+    @Test
+    void weights_halve_every_half_life() {
+        TrendingBuckets buckets = new TrendingBuckets(properties(5, Duration.ofHours(2)));
+
+        double[] weights = buckets.weights();
+
+        assertThat(weights[0]).isEqualTo(1.0);
+        assertThat(weights[2]).isCloseTo(0.5, within(1e-9));
+        assertThat(weights[4]).isCloseTo(0.25, within(1e-9));
+    }
+
+    private TrendingProperties properties(int windowHours, Duration decayHalfLife) {
+        return new TrendingProperties(windowHours, decayHalfLife);
+    }
+}
@@ -0,0 +1,158 @@
+package com.cherry.server.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.cherry.server.product.cache.RenderedProductPage;
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.dto.ProductListResponse;
+import com.cherry.server.product.dto.ProductSummaryResponse;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.product.repository.ProductTrendingRepository;
+import com.cherry.server.product.service.ProductService;
+import com.cherry.server.product.trending.TrendingSnapshot;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.service.WishService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendingSnapshotTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ProductTrendingRepository productTrendingRepository;
+
+    @BeforeEach
+    void setUp() {
+        productLikeRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void trending_is_served_from_snapshot_with_per_user_likes() throws Exception {
+        User seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        User viewer = userRepository.save(User.builder()
+                .email("viewer@example.com")
+                .nickname("viewer")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        Product first = productRepository.save(buildProduct(seller, category, "첫번째", ProductStatus.SELLING));
+        Product second = productRepository.save(buildProduct(seller, category, "두번째", ProductStatus.SELLING));
+        Product pending = productRepository.save(buildProduct(seller, category, "대기", ProductStatus.PENDING));
+        wishService.addLike(viewer.getId(), second.getId());
+        when(productTrendingRepository.getTopTrendingProductIds(anyInt()))
+                .thenReturn(List.of(second.getId(), pending.getId(), first.getId()));
+
+        productService.refreshTrendingSnapshot();
+        clearInvocations(productRepository);
+
+        ProductListResponse anonymous = objectMapper.readValue(productService.getTrendingJson(null), ProductListResponse.class);
+        ProductListResponse loggedIn = objectMapper.readValue(productService.getTrendingJson(viewer.getId()), ProductListResponse.class);
+
+        assertThat(anonymous.items()).extracting(ProductSummaryResponse::id)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(anonymous.items()).extracting(ProductSummaryResponse::isLiked).containsOnly(false);
+        assertThat(loggedIn.items()).extracting(ProductSummaryResponse::isLiked).containsExactly(true, false);
+        assertThat(loggedIn.items()).extracting(ProductSummaryResponse::likeCount).containsExactly(1L, 0L);
+        verify(productRepository, never()).findSummaryRowsByIdIn(anyList());
+    }
+
+    @Test
+    void concurrent_cold_reads_build_the_snapshot_once() throws Exception {
+        TrendingSnapshot snapshot = new TrendingSnapshot();
+        RenderedProductPage built = RenderedProductPage.assemble(List.of(), null);
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<RenderedProductPage>> reads = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return snapshot.getOrBuild(() -> {
+                        builds.incrementAndGet();
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                        return built;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<RenderedProductPage> read : reads) {
+                assertThat(read.get()).isSameAs(built);
+            }
+        }
+        assertThat(builds).hasValue(1);
+    }
+
+    private Product buildProduct(User seller, Category category, String title, ProductStatus status) {
+        return Product.builder()
+                .seller(seller)
+                .title(title)
+                .description("desc")
+                .price(1000)
+                .status(status)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build();
+    }
+}
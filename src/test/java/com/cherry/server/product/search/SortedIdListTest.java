@@ -0,0 +1,103 @@
+package com.cherry.server.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class SortedIdListTest {
+
+    @Test
+    void round_trips_and_edits_across_blocks() {
+        SortedIdList list = SortedIdList.of(new long[]{3, 10, 300, 1_000_000})
+                .with(5)
+                .with(10)
+                .without(300);
+
+        assertThat(list.toArray()).containsExactly(3, 5, 10, 1_000_000);
+        assertThat(list.size()).isEqualTo(4);
+
+        Random random = new Random(7);
+        TreeSet<Long> expected = new TreeSet<>();
+        SortedIdList edited = SortedIdList.EMPTY;
+        for (int i = 0; i < 5_000; i++) {
+            long id = 1 + random.nextInt(3_000);
+            if (random.nextInt(4) == 0) {
+                expected.remove(id);
+                edited = edited.without(id);
+            } else {
+                expected.add(id);
+                edited = edited.with(id);
+            }
+        }
+        assertThat(edited.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+        assertThat(edited.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void with_reencodes_only_the_block_it_changes() {
+        SortedIdList list = SortedIdList.of(LongStream.rangeClosed(1, 1_000).map(id -> id * 2).toArray());
+        int sealed = list.blockCount() - 1;
+        assertThat(sealed).isEqualTo(1_000 / SortedIdList.BLOCK_SIZE);
+
+        SortedIdList appended = list.with(5_000);
+        for (int i = 0; i < sealed; i++) {
+            assertThat(appended.block(i)).isSameAs(list.block(i));
+        }
+
+        SortedIdList inserted = list.with(301);
+        int changed = 0;
+        for (int i = 0; i < inserted.blockCount(); i++) {
+            if (inserted.block(i) != list.block(i)) {
+                changed++;
+            }
+        }
+        assertThat(changed).isEqualTo(1);
+        assertThat(inserted.toArray()).contains(301).hasSize(1_001);
+    }
+
+    @Test
+    void blocks_are_sized_to_their_encoding() {
+        SortedIdList dense = SortedIdList.of(LongStream.rangeClosed(1, SortedIdList.BLOCK_SIZE).toArray());
+
+        assertThat(dense.block(0).gaps).hasSize(SortedIdList.BLOCK_SIZE);
+    }
+
+    @Test
+    void intersects_and_unions_without_materializing() {
+        SortedIdList odd = SortedIdList.of(LongStream.rangeClosed(0, 2_000).map(i -> 2 * i + 1).toArray());
+        SortedIdList threes = SortedIdList.of(LongStream.rangeClosed(1, 1_000).map(i -> 3 * i).toArray());
+        SortedIdList small = SortedIdList.of(new long[]{3, 9, 10, 2_997, 3_999});
+
+        assertThat(collect(SortedIdList::intersect, odd, threes, small))
+                .containsExactly(3L, 9L, 2_997L);
+        assertThat(collect(SortedIdList::union, small, SortedIdList.of(new long[]{1, 9, 4_000})))
+                .containsExactly(1L, 3L, 9L, 10L, 2_997L, 3_999L, 4_000L);
+        assertThat(collect(SortedIdList::intersect, odd, SortedIdList.EMPTY)).isEmpty();
+    }
+
+    @Test
+    void cursor_advances_to_the_first_id_at_or_above_the_target() {
+        SortedIdList list = SortedIdList.of(LongStream.rangeClosed(1, 1_000).map(id -> id * 10).toArray());
+        SortedIdList.Cursor cursor = list.cursor();
+
+        assertThat(cursor.advance(5)).isEqualTo(10);
+        assertThat(cursor.advance(10)).isEqualTo(10);
+        assertThat(cursor.advance(5_001)).isEqualTo(5_010);
+        assertThat(cursor.next()).isEqualTo(5_020);
+        assertThat(cursor.advance(10_001)).isEqualTo(SortedIdList.END);
+        assertThat(cursor.next()).isEqualTo(SortedIdList.END);
+    }
+
+    private List<Long> collect(BiConsumer<List<SortedIdList>, LongConsumer> merge, SortedIdList... lists) {
+        List<Long> ids = new ArrayList<>();
+        merge.accept(List.of(lists), ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cherry.server.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.wish.cache.LikeBloomFilters;
+import com.cherry.server.wish.cache.LikeCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LikeBloomFiltersTest {
+
+    private final LikeBloomFilters filters = new LikeBloomFilters(
+            new LikeCacheProperties(true, 0.01, 100, Duration.ofMinutes(10), false),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    void like_recorded_while_the_filter_is_built_is_not_lost() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // The build reads the like set before the like lands, then finishes after it was recorded.
+        CompletableFuture<List<Long>> lookup = CompletableFuture.supplyAsync(
+                () -> filters.possiblyLiked(1L, List.of(42L), userId -> {
+                    building.countDown();
+                    await(release);
+                    return List.of();
+                })
+        );
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> like = CompletableFuture.runAsync(() -> filters.recordLike(1L, 42L));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(like).isNotDone();
+
+        release.countDown();
+        like.get(5, TimeUnit.SECONDS);
+        lookup.get(5, TimeUnit.SECONDS);
+        assertThat(filters.possiblyLiked(1L, List.of(42L), this::failIfRebuilt)).containsExactly(42L);
+    }
+
+    private Collection<Long> failIfRebuilt(Long userId) {
+        throw new AssertionError("filter should still be cached");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
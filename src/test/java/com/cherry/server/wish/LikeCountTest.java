@@ -0,0 +1,111 @@
+package com.cherry.server.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.service.LikeCountReconciler;
+import com.cherry.server.wish.service.WishService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeCountTest {
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User seller;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productLikeRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        seller = userRepository.save(User.builder()
+                .email("seller@example.com")
+                .nickname("seller")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        product = productRepository.save(Product.builder()
+                .seller(seller)
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+    }
+
+    @Test
+    void like_and_unlike_keep_like_count_in_step() {
+        User other = userRepository.save(User.builder()
+                .email("other@example.com")
+                .nickname("other")
+                .password("pw")
+                .build());
+
+        wishService.addLike(seller.getId(), product.getId());
+        wishService.addLike(seller.getId(), product.getId());
+        wishService.addLike(other.getId(), product.getId());
+        assertThat(likeCount()).isEqualTo(2L);
+
+        wishService.removeLike(other.getId(), product.getId());
+        wishService.removeLike(other.getId(), product.getId());
+        assertThat(likeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void reconciler_repairs_drifted_like_count() {
+        wishService.addLike(seller.getId(), product.getId());
+        jdbcTemplate.update("UPDATE products SET like_count = 7 WHERE id = ?", product.getId());
+
+        assertThat(likeCountReconciler.reconcile()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1L);
+        assertThat(likeCountReconciler.reconcile()).isZero();
+    }
+
+    private long likeCount() {
+        return productRepository.findById(product.getId()).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,174 @@
+package com.cherry.server.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.product.cache.ProductCacheInvalidator;
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.repository.RedisLikeRepository;
+import com.cherry.server.wish.service.LikeFlusher;
+import com.cherry.server.wish.service.WishService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Two flushers (plus the scheduled one) drain a queue that keeps receiving like/unlike toggles, as several
+ * nodes would. Needs a Redis server on localhost:6379, whose likes:* keys it clears:
+ * {@code LIKE_FLUSH_REDIS=true ./gradlew test --tests '*LikeFlushConcurrencyTest'}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "LIKE_FLUSH_REDIS", matches = "true")
+class LikeFlushConcurrencyTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private RedisLikeRepository redisLikeRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productLikeRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        Set<String> keys = redisTemplate.keys("likes:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("flush-" + i + "@example.com")
+                    .nickname("flush-" + i)
+                    .password("pw")
+                    .build()));
+        }
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        product = productRepository.save(Product.builder()
+                .seller(users.get(0))
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+        users.forEach(user -> redisLikeRepository.loadUserLikes(user.getId(), List.of()));
+    }
+
+    @Test
+    void concurrent_flushers_apply_toggles_in_queue_order() throws Exception {
+        LikeFlusher first = flusher();
+        LikeFlusher second = flusher();
+        AtomicBoolean toggling = new AtomicBoolean(true);
+
+        CompletableFuture<Void> flushing = CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> drain(first, toggling)),
+                CompletableFuture.runAsync(() -> drain(second, toggling))
+        );
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            User user = users.get(random.nextInt(users.size()));
+            redisLikeRepository.toggle(user.getId(), product.getId(), random.nextBoolean(), System.currentTimeMillis());
+        }
+        toggling.set(false);
+        flushing.get(60, TimeUnit.SECONDS);
+
+        Set<Long> likedInRedis = new HashSet<>();
+        for (User user : users) {
+            Set<Long> liked = redisLikeRepository.findAllLikedProductIds(user.getId());
+            if (liked != null && liked.contains(product.getId())) {
+                likedInRedis.add(user.getId());
+            }
+        }
+        List<Long> likedInDatabase = jdbcTemplate.queryForList(
+                "SELECT user_id FROM product_likes WHERE product_id = ?", Long.class, product.getId()
+        );
+        assertThat(likedInDatabase).containsExactlyInAnyOrderElementsOf(likedInRedis);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getLikeCount())
+                .isEqualTo(likedInRedis.size());
+    }
+
+    private LikeFlusher flusher() {
+        return new LikeFlusher(
+                redisLikeRepository,
+                jdbcTemplate,
+                transactionManager,
+                productCacheInvalidator,
+                wishService,
+                new SimpleMeterRegistry(),
+                5,
+                LEASE
+        );
+    }
+
+    // Keeps flushing until toggling has stopped and nothing is queued or claimed.
+    private void drain(LikeFlusher flusher, AtomicBoolean toggling) {
+        while (toggling.get()
+                || Boolean.TRUE.equals(redisTemplate.hasKey("likes:queue"))
+                || Boolean.TRUE.equals(redisTemplate.hasKey("likes:queue:processing"))) {
+            flusher.flush();
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.cherry.server.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.cherry.server.product.domain.Category;
+import com.cherry.server.product.domain.Product;
+import com.cherry.server.product.domain.ProductStatus;
+import com.cherry.server.product.domain.TradeType;
+import com.cherry.server.product.repository.CategoryRepository;
+import com.cherry.server.product.repository.ProductRepository;
+import com.cherry.server.user.domain.User;
+import com.cherry.server.user.repository.UserRepository;
+import com.cherry.server.wish.repository.LikeQueueEntry;
+import com.cherry.server.wish.repository.ProductLikeRepository;
+import com.cherry.server.wish.repository.RedisLikeRepository;
+import com.cherry.server.wish.service.LikeFlusher;
+import com.cherry.server.wish.service.WishService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeFlusherTest {
+
+    @Autowired
+    private LikeFlusher likeFlusher;
+
+    @Autowired
+    private WishService wishService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private RedisLikeRepository redisLikeRepository;
+
+    private User user;
+    private User other;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productLikeRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = userRepository.save(User.builder()
+                .email("user@example.com")
+                .nickname("user")
+                .password("pw")
+                .build());
+        other = userRepository.save(User.builder()
+                .email("other@example.com")
+                .nickname("other")
+                .password("pw")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .code("PHOTO")
+                .displayName("포토카드")
+                .isActive(true)
+                .sortOrder(1)
+                .build());
+        product = productRepository.save(Product.builder()
+                .seller(user)
+                .title("테스트 상품")
+                .description("desc")
+                .price(1000)
+                .status(ProductStatus.SELLING)
+                .tradeType(TradeType.DIRECT)
+                .category(category)
+                .build());
+    }
+
+    @Test
+    void replayed_batch_does_not_double_count() {
+        List<LikeQueueEntry> batch = List.of(like(user, true));
+
+        likeFlusher.applyBatch(batch);
+        likeFlusher.applyBatch(batch);
+
+        assertThat(productLikeRepository.count()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void only_last_change_per_user_and_product_is_applied() {
+        likeFlusher.applyBatch(List.of(like(user, true), like(other, true), like(other, false)));
+        assertThat(likeCount()).isEqualTo(1L);
+
+        likeFlusher.applyBatch(List.of(like(user, false)));
+        assertThat(productLikeRepository.count()).isZero();
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    void flush_rolls_back_a_batch_whose_lease_passed_to_another_node() {
+        when(redisLikeRepository.claimBatch(anyString(), any(), anyInt())).thenReturn(List.of(like(user, true)));
+        when(redisLikeRepository.extendLease(anyString(), any())).thenReturn(false);
+
+        likeFlusher.flush();
+
+        assertThat(productLikeRepository.count()).isZero();
+        assertThat(likeCount()).isZero();
+        verify(redisLikeRepository, never()).completeBatch(anyString());
+        verify(redisLikeRepository, atLeastOnce()).releaseLease(anyString());
+    }
+
+    @Test
+    void like_on_a_missing_product_is_not_found_and_never_queued() {
+        long missing = product.getId() + 1_000;
+
+        assertThatThrownBy(() -> wishService.addLike(user.getId(), missing))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Product not found.");
+        assertThatThrownBy(() -> wishService.removeLike(user.getId(), missing))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Product not found.");
+        verify(redisLikeRepository, never()).toggle(anyLong(), anyLong(), anyBoolean(), anyLong());
+    }
+
+    private LikeQueueEntry like(User liker, boolean liked) {
+        return LikeQueueEntry.parse((liked ? "L" : "U") + ":" + liker.getId() + ":" + product.getId() + ":1767225600000");
+    }
+
+    private long likeCount() {
+        return productRepository.findById(product.getId()).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,34 @@
+package com.cherry.server.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cherry.server.wish.cache.LongBloomFilter;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LongBloomFilterTest {
+
+    @Test
+    void never_reports_added_ids_as_absent() {
+        List<Long> liked = LongStream.rangeClosed(1, 1_000).map(id -> id * 7).boxed().toList();
+        LongBloomFilter filter = LongBloomFilter.of(liked, 2_000, 0.01);
+
+        assertThat(liked).allMatch(filter::mightContain);
+
+        filter.put(999_999L);
+        assertThat(filter.mightContain(999_999L)).isTrue();
+    }
+
+    @Test
+    void false_positive_rate_stays_near_target() {
+        List<Long> liked = LongStream.rangeClosed(1, 1_000).boxed().toList();
+        LongBloomFilter filter = LongBloomFilter.of(liked, 1_000, 0.01);
+
+        long falsePositives = LongStream.rangeClosed(1_000_001, 1_100_000)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}